@@ -0,0 +1,67 @@
+package corgi;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import corgi.tasks.Deadline;
+import corgi.tasks.Event;
+import corgi.tasks.Task;
+import corgi.tasks.ToDo;
+
+/**
+ * Generates the data sets used by the benchmarks. The same size always gives the same tasks,
+ * so results can be compared between versions.
+ */
+public final class BenchmarkData {
+    private static final long SEED = 20260101L;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2026, 1, 1);
+    private static final int DAYS = 730;
+    private static final String[] WORDS = {"submit", "weekly", "report", "read", "chapter", "garbage", "collection",
+        "buy", "groceries", "call", "plumber", "review", "pull", "request", "book", "flight", "renew", "passport",
+        "water", "plants", "prepare", "slides", "team", "meeting", "fix", "bug", "update", "resume", "clean", "desk"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates a list of tasks: half todos, a third deadlines and the rest events, with about
+     * a third of them done, and dates spread over two years from 2026.
+     *
+     * @param count The number of tasks.
+     * @return The tasks.
+     */
+    public static List<Task> createTasks(int count) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String desc = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            boolean isDone = random.nextInt(3) == 0;
+            LocalDate date = FIRST_DATE.plusDays(random.nextInt(DAYS));
+            int kind = random.nextInt(6);
+
+            if (kind < 3) {
+                tasks.add(new ToDo(isDone, desc));
+            } else if (kind < 5) {
+                tasks.add(new Deadline(isDone, desc, date));
+            } else {
+                tasks.add(new Event(isDone, desc, date, date.plusDays(1 + random.nextInt(5))));
+            }
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Returns a word that appears in the descriptions of the generated tasks.
+     *
+     * @param index Any number, to pick the word.
+     * @return The word.
+     */
+    public static String getWord(int index) {
+        return WORDS[Math.floorMod(index, WORDS.length)];
+    }
+}
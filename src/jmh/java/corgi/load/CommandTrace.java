@@ -0,0 +1,141 @@
+package corgi.load;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import corgi.BenchmarkData;
+import corgi.tasks.Task;
+
+/**
+ * Generates a realistic sequence of commands against a pre-populated task list.
+ *
+ * The generator follows the list as the commands change it, so that every {@code mark}, {@code unmark},
+ * {@code delete} and {@code undo} is valid when replayed in order on that list. The same seed always
+ * gives the same trace.
+ */
+public final class CommandTrace {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2026, 1, 1);
+    private static final int DAYS = 730;
+
+    /**
+     * The commands in the trace and how often each one is picked, out of 100.
+     */
+    private static final String[] COMMANDS = {"todo", "deadline", "event", "mark", "delete", "find", "date", "list",
+        "undo"};
+    private static final int[] WEIGHTS = {15, 10, 5, 15, 10, 15, 10, 10, 10};
+
+    private final Random random;
+
+    /** Whether each task of the list is done, as the list will be when the next command is replayed. */
+    private final List<Boolean> isDone = new ArrayList<>();
+
+    /** Undoes the generated commands that the chatbot keeps in its history, latest first. */
+    private final Deque<Runnable> history = new ArrayDeque<>();
+
+    private CommandTrace(List<Task> tasks, long seed) {
+        this.random = new Random(seed);
+        for (Task task : tasks) {
+            this.isDone.add(task.isDone());
+        }
+    }
+
+    /**
+     * Generates a trace.
+     *
+     * @param tasks The tasks the trace is replayed on.
+     * @param length The number of commands.
+     * @param seed The seed of the trace.
+     * @return The commands, in order.
+     */
+    public static List<String> generate(List<Task> tasks, int length, long seed) {
+        CommandTrace trace = new CommandTrace(tasks, seed);
+        List<String> commands = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            commands.add(trace.next(i));
+        }
+        return commands;
+    }
+
+    private String next(int step) {
+        String command = pickCommand();
+
+        if (this.isDone.isEmpty() && (command.equals("mark") || command.equals("delete"))) {
+            command = "todo";
+        }
+        if (this.history.isEmpty() && command.equals("undo")) {
+            command = "list";
+        }
+
+        switch (command) {
+        case "todo":
+            add();
+            return "todo /desc " + describe(step);
+        case "deadline":
+            add();
+            return "deadline /desc " + describe(step) + " /by " + pickDate();
+        case "event":
+            add();
+            LocalDate from = pickDate();
+            return "event /desc " + describe(step) + " /from " + from + " /to " + from.plusDays(1 + random.nextInt(5));
+        case "mark":
+            return toggle(random.nextInt(this.isDone.size()));
+        case "delete":
+            return delete(random.nextInt(this.isDone.size()));
+        case "find":
+            return "find /target " + BenchmarkData.getWord(random.nextInt(100));
+        case "date":
+            return "date /target " + pickDate();
+        case "undo":
+            this.history.pop().run();
+            return "undo";
+        default:
+            return "list";
+        }
+    }
+
+    private String pickCommand() {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < COMMANDS.length; i++) {
+            roll -= WEIGHTS[i];
+            if (roll < 0) {
+                return COMMANDS[i];
+            }
+        }
+        return COMMANDS[COMMANDS.length - 1];
+    }
+
+    private String describe(int step) {
+        return BenchmarkData.getWord(random.nextInt(100)) + " " + BenchmarkData.getWord(random.nextInt(100))
+                + " trace " + step;
+    }
+
+    private LocalDate pickDate() {
+        return FIRST_DATE.plusDays(random.nextInt(DAYS));
+    }
+
+    private void add() {
+        this.isDone.add(false);
+        int index = this.isDone.size() - 1;
+        this.history.push(() -> this.isDone.remove(index));
+    }
+
+    /**
+     * Marks a task that is not done, or unmarks one that is, so the command never fails.
+     */
+    private String toggle(int index) {
+        boolean wasDone = this.isDone.get(index);
+        this.isDone.set(index, !wasDone);
+        this.history.push(() -> this.isDone.set(index, wasDone));
+        return (wasDone ? "unmark" : "mark") + " /target " + (index + 1);
+    }
+
+    private String delete(int index) {
+        boolean wasDone = this.isDone.remove(index);
+        this.history.push(() -> this.isDone.add(index, wasDone));
+        return "delete /target " + (index + 1);
+    }
+}
@@ -0,0 +1,91 @@
+package corgi.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the latencies of replayed commands, grouped by command name, and prints their percentiles.
+ * A profile is filled by one thread; profiles of several threads are combined with {@link #addAll}.
+ */
+final class LatencyProfile {
+    private final Map<String, Samples> samplesByCommand = new TreeMap<>();
+
+    /**
+     * Records how long a command took.
+     *
+     * @param command The command name, e.g. {@code todo}.
+     * @param nanos The latency in nanoseconds.
+     */
+    void record(String command, long nanos) {
+        this.samplesByCommand.computeIfAbsent(command, name -> new Samples()).add(nanos);
+    }
+
+    void addAll(LatencyProfile other) {
+        for (Map.Entry<String, Samples> entry : other.samplesByCommand.entrySet()) {
+            Samples samples = this.samplesByCommand.computeIfAbsent(entry.getKey(), name -> new Samples());
+            Samples added = entry.getValue();
+            for (int i = 0; i < added.count; i++) {
+                samples.add(added.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Prints one line per command and a line for all commands together.
+     *
+     * @param elapsedNanos The wall-clock time of the replay.
+     */
+    void printReport(long elapsedNanos) {
+        Samples all = new Samples();
+        System.out.printf("%-10s %8s %10s %10s %10s %10s%n", "Command", "Count", "p50 ms", "p99 ms", "p999 ms",
+                "max ms");
+
+        for (Map.Entry<String, Samples> entry : this.samplesByCommand.entrySet()) {
+            Samples samples = entry.getValue();
+            printLine(entry.getKey(), samples.sorted());
+            for (int i = 0; i < samples.count; i++) {
+                all.add(samples.values[i]);
+            }
+        }
+
+        long[] sorted = all.sorted();
+        printLine("all", sorted);
+        System.out.printf("Throughput: %.1f commands/s%n", sorted.length / (elapsedNanos / 1e9));
+    }
+
+    private static void printLine(String command, long[] sorted) {
+        if (sorted.length == 0) {
+            return;
+        }
+        System.out.printf("%-10s %8d %10.3f %10.3f %10.3f %10.3f%n", command, sorted.length,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    /**
+     * A growable array of latencies, so recording does not box every sample.
+     */
+    private static final class Samples {
+        private long[] values = new long[64];
+        private int count;
+
+        void add(long nanos) {
+            if (this.count == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.count * 2);
+            }
+            this.values[this.count++] = nanos;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(this.values, this.count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package corgi.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import corgi.server.CorgiServer;
+import corgi.server.ServerExecutors;
+
+/**
+ * A simple load-test client for {@link CorgiServer}.
+ *
+ * Each simulated client sends the same command repeatedly and waits for every reply
+ * before sending the next one. Clients are spread over the given number of users.
+ * Latency percentiles and throughput are printed at the end.
+ */
+public class LoadClient {
+    private static final String DEFAULT_URL = "http://localhost:8080/command";
+    private static final int DEFAULT_CLIENTS = 32;
+    private static final int DEFAULT_REQUESTS = 200;
+    private static final String DEFAULT_COMMAND = "list";
+    private static final int DEFAULT_USERS = 1;
+
+    /**
+     * Runs the load test.
+     * Arguments (all optional): url, number of clients, requests per client, command text, number of users.
+     *
+     * @param args The command line arguments.
+     * @throws Exception If the load test cannot be completed.
+     */
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : DEFAULT_URL;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS;
+        String command = args.length > 3 ? args[3] : DEFAULT_COMMAND;
+        int users = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_USERS;
+
+        ExecutorService executor = ServerExecutors.newPerRequestExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+
+        List<Future<long[]>> results = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < clients; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .header("X-Corgi-User", "load-" + (i % users))
+                    .POST(HttpRequest.BodyPublishers.ofString(command))
+                    .build();
+            results.add(executor.submit(() -> runClient(client, request, requests)));
+        }
+
+        long[] latencies = new long[clients * requests];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            offset += clientLatencies.length;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        printReport(command, clients, latencies, elapsed);
+    }
+
+    private static long[] runClient(HttpClient client, HttpRequest request, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long begin = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - begin;
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + response.statusCode());
+            }
+        }
+        return latencies;
+    }
+
+    private static void printReport(String command, int clients, long[] latencies, long elapsed) {
+        Arrays.sort(latencies);
+        double seconds = elapsed / 1e9;
+
+        System.out.println("Command:    " + command);
+        System.out.println("Clients:    " + clients);
+        System.out.println("Requests:   " + latencies.length);
+        System.out.printf("Throughput: %.1f req/s%n", latencies.length / seconds);
+        System.out.printf("Latency:    p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
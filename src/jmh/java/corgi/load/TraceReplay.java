@@ -0,0 +1,123 @@
+package corgi.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import corgi.BenchmarkData;
+import corgi.Corgi;
+import corgi.parsers.TaskParser;
+import corgi.storage.Storage;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+
+/**
+ * Replays generated command traces through {@link Corgi#getResponse} and reports latency percentiles
+ * and throughput for each command, for several sizes of the starting task list.
+ *
+ * Each size is replayed by one thread, then by many threads at once. A chatbot serves a single user,
+ * so every thread gets its own chatbot and data file, as the server does for each user.
+ */
+public class TraceReplay {
+    private static final String DEFAULT_SIZES = "100,1000,10000,100000";
+    private static final int DEFAULT_COMMANDS = 2000;
+    private static final int DEFAULT_THREADS = 8;
+    private static final long SEED = 20260101L;
+
+    /**
+     * Runs the replay.
+     * Arguments (all optional): comma-separated list sizes, commands per thread, number of threads.
+     *
+     * @param args The command line arguments.
+     * @throws Exception If the replay cannot be completed.
+     */
+    public static void main(String[] args) throws Exception {
+        String sizes = args.length > 0 ? args[0] : DEFAULT_SIZES;
+        int commands = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMANDS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_THREADS;
+
+        // Lets the JIT compile the hot paths before anything is measured.
+        replay(1000, commands, 1);
+
+        for (String size : sizes.split(",")) {
+            int taskCount = Integer.parseInt(size.trim());
+            printRun(taskCount, commands, 1);
+            if (threads > 1) {
+                printRun(taskCount, commands, threads);
+            }
+        }
+    }
+
+    private static void printRun(int taskCount, int commands, int threads) throws Exception {
+        System.out.println();
+        System.out.println("Tasks:      " + taskCount);
+        System.out.println("Threads:    " + threads);
+        System.out.println("Commands:   " + commands * threads);
+        long start = System.nanoTime();
+        LatencyProfile profile = replay(taskCount, commands, threads);
+        profile.printReport(System.nanoTime() - start);
+    }
+
+    /**
+     * Replays one trace per thread, all starting together, and combines their latencies.
+     */
+    private static LatencyProfile replay(int taskCount, int commands, int threads) throws Exception {
+        List<Task> tasks = BenchmarkData.createTasks(taskCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<LatencyProfile>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                List<String> trace = CommandTrace.generate(tasks, commands, SEED + i);
+                File file = createDataFile(tasks);
+                Corgi corgi = new Corgi(file.getPath());
+                results.add(executor.submit(() -> {
+                    try {
+                        go.await();
+                        return replay(corgi, trace);
+                    } finally {
+                        file.delete();
+                    }
+                }));
+            }
+
+            go.countDown();
+
+            LatencyProfile profile = new LatencyProfile();
+            for (Future<LatencyProfile> result : results) {
+                profile.addAll(result.get());
+            }
+            return profile;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static LatencyProfile replay(Corgi corgi, List<String> trace) {
+        LatencyProfile profile = new LatencyProfile();
+        for (String command : trace) {
+            long begin = System.nanoTime();
+            corgi.getResponse(command);
+            profile.record(getName(command), System.nanoTime() - begin);
+        }
+        return profile;
+    }
+
+    private static String getName(String command) {
+        int end = command.indexOf(' ');
+        return end < 0 ? command : command.substring(0, end);
+    }
+
+    private static File createDataFile(List<Task> tasks) throws IOException {
+        File file = File.createTempFile("corgi-trace", ".txt");
+        file.deleteOnExit();
+        new Storage<>(new TaskParser(), file.getPath()).save(new TaskList(tasks));
+        return file;
+    }
+}
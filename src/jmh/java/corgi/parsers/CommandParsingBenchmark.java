@@ -0,0 +1,150 @@
+package corgi.parsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating and extracting command arguments through {@link CommandTokens}
+ * with the previous approach of splitting the command string once per step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParsingBenchmark {
+    @Param({"todo", "deadline", "event"})
+    private String commandType;
+
+    private String command;
+    private Set<String> arguments;
+    private CommandValidator validator;
+
+    /**
+     * Prepares the command string for the chosen command type.
+     */
+    @Setup
+    public void setUp() {
+        this.arguments = CommandRegistry.getDefault().lookup(this.commandType).getArgumentsSet();
+        this.validator = new CommandValidator();
+
+        switch (this.commandType) {
+        case "todo":
+            this.command = "todo /desc read the chapter on garbage collection";
+            break;
+        case "deadline":
+            this.command = "deadline /desc submit the weekly report to the team /by 2023-09-22";
+            break;
+        case "event":
+            this.command = "event /desc annual performance engineering conference /from 2023-09-20 /to 2023-09-22";
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported command type: " + this.commandType);
+        }
+    }
+
+    /**
+     * Validates and extracts the arguments from a single tokenization of the command.
+     */
+    @Benchmark
+    public Map<String, String> tokenized() throws InvalidCommandFormatException {
+        CommandTokens tokens = CommandTokens.tokenize(this.command);
+        if (tokens.hasNoArgument()) {
+            throw new IllegalStateException();
+        }
+        this.validator.validateArguments(tokens, this.arguments);
+        return tokens.getArgumentValues(this.arguments);
+    }
+
+    /**
+     * Validates and extracts the arguments by splitting the command for every step, as before.
+     */
+    @Benchmark
+    public Map<String, String> splitPerStep() throws InvalidCommandFormatException {
+        if (this.command.split(" ").length == 1) {
+            throw new IllegalStateException();
+        }
+        legacyValidateArguments(this.command, this.arguments);
+        return legacyParseCommandArgs(this.command, this.arguments);
+    }
+
+    private static void legacyValidateArguments(String command, Set<String> arguments)
+            throws InvalidCommandFormatException {
+        List<String> errorMsg = new ArrayList<>();
+        boolean isValid = true;
+        for (String argument : arguments) {
+            long numOfArg = new ArrayList<String>(Arrays.asList(command.split(" ")))
+                    .stream()
+                    .filter(x -> x.equals(argument))
+                    .count();
+
+            if (numOfArg == 1) {
+                continue;
+            }
+
+            isValid = false;
+            errorMsg.add((numOfArg == 0 ? "Missing argument " : "Invalid number of argument ")
+                    + "\"" + argument + "\" !");
+        }
+
+        if (!isValid) {
+            throw new InvalidCommandFormatException(String.join("\n", errorMsg));
+        }
+    }
+
+    private static Map<String, String> legacyParseCommandArgs(String command, Set<String> arguments)
+            throws InvalidCommandFormatException {
+        String[] splitWithSpace = command.split(" ");
+        Map<String, String> argToValue = new HashMap<>();
+
+        String currArg = null;
+        int indexOfCurrArg = 0;
+
+        for (int i = 0; i < splitWithSpace.length; i++) {
+            String currWord = splitWithSpace[i];
+
+            if (!arguments.contains(currWord)) {
+                continue;
+            }
+
+            if (currArg != null) {
+                if (indexOfCurrArg + 1 == i) {
+                    throw new InvalidCommandFormatException("Missing value for argument \"" + currArg + "\"");
+                }
+                String[] valueList = Arrays.copyOfRange(splitWithSpace, indexOfCurrArg + 1, i);
+                argToValue.put(currArg, String.join(" ", valueList));
+            }
+
+            currArg = currWord;
+            indexOfCurrArg = i;
+        }
+
+        if (currArg != null) {
+            if (indexOfCurrArg + 1 == splitWithSpace.length) {
+                throw new InvalidCommandFormatException("Missing value for argument \"" + currArg + "\" !");
+            }
+            String[] valueList = Arrays.copyOfRange(splitWithSpace, indexOfCurrArg + 1, splitWithSpace.length);
+            argToValue.put(currArg, String.join(" ", valueList));
+        }
+
+        return argToValue;
+    }
+}
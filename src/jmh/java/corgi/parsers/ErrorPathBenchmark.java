@@ -0,0 +1,103 @@
+package corgi.parsers;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corgi.Corgi;
+
+/**
+ * Measures how quickly invalid input is rejected, as sent by scripted clients.
+ * {@link #parseWithStackTrace} adds the cost of a stack trace to each error, for comparison with {@link #parse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+    @Param({"unknown", "format", "index", "date", "execution"})
+    private String error;
+
+    private String input;
+    private CommandParser parser;
+    private Corgi corgi;
+
+    /**
+     * Prepares an invalid input of the chosen kind and a chatbot with an empty task list.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        switch (this.error) {
+        case "unknown":
+            this.input = "remind /desc buy milk";
+            break;
+        case "format":
+            this.input = "deadline /desc submit report";
+            break;
+        case "index":
+            this.input = "mark /target first";
+            break;
+        case "date":
+            this.input = "date /target tomorrow";
+            break;
+        case "execution":
+            this.input = "delete /target 42";
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown error kind: " + this.error);
+        }
+
+        File dataFile = File.createTempFile("corgi-errors", ".txt");
+        dataFile.deleteOnExit();
+
+        this.parser = new CommandParser();
+        this.corgi = new Corgi(dataFile.getPath());
+    }
+
+    /**
+     * Parses the invalid input and returns the error, if any.
+     */
+    @Benchmark
+    public Object parse() {
+        try {
+            return this.parser.parse(this.input);
+        } catch (ParsingException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Baseline for {@link #parse}: parses the same input, but reports the error with an exception
+     * that fills in its stack trace, as the user-input exceptions did before they were made stackless.
+     */
+    @Benchmark
+    public Object parseWithStackTrace() {
+        try {
+            return this.parser.parse(this.input);
+        } catch (ParsingException e) {
+            return new Exception(e.getMessage());
+        }
+    }
+
+    /**
+     * Sends the invalid input through the whole chatbot, including rendering the error message.
+     */
+    @Benchmark
+    public String respond() {
+        return this.corgi.getResponse(this.input);
+    }
+}
@@ -0,0 +1,82 @@
+package corgi.parsers;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corgi.commands.Command;
+import corgi.tasks.Task;
+
+/**
+ * Measures parsing a command typed by the user and parsing a task from the data file, for each task type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"todo", "deadline", "event"})
+    private String taskType;
+
+    private final CommandParser commandParser = new CommandParser();
+    private final CommandValidator validator = new CommandValidator();
+    private final TaskParser taskParser = new TaskParser();
+
+    private String command;
+    private Set<String> arguments;
+    private String storedTask;
+
+    /**
+     * Prepares a command and a line of the data file for the chosen task type.
+     */
+    @Setup
+    public void setUp() {
+        this.arguments = CommandRegistry.getDefault().lookup(this.taskType).getArgumentsSet();
+
+        switch (this.taskType) {
+        case "todo":
+            this.command = "todo /desc read the chapter on garbage collection";
+            this.storedTask = "T | 0 | read the chapter on garbage collection";
+            break;
+        case "deadline":
+            this.command = "deadline /desc submit the weekly report to the team /by 2026-09-22";
+            this.storedTask = "D | 1 | submit the weekly report to the team | 2026-09-22";
+            break;
+        case "event":
+            this.command = "event /desc annual performance engineering conference /from 2026-09-20 /to 2026-09-22";
+            this.storedTask = "E | 0 | annual performance engineering conference | 2026-09-20 | 2026-09-22";
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported task type: " + this.taskType);
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParsingException {
+        return this.commandParser.parse(this.command);
+    }
+
+    @Benchmark
+    public Set<String> validateArguments() throws InvalidCommandFormatException {
+        this.validator.validateArguments(this.command, this.arguments);
+        return this.arguments;
+    }
+
+    @Benchmark
+    public Task parseTask() throws ParsingException {
+        return this.taskParser.parse(this.storedTask);
+    }
+}
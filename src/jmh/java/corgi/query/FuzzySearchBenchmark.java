@@ -0,0 +1,101 @@
+package corgi.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.ToDo;
+
+/**
+ * Compares fuzzy search through the word index with computing the edit distance against every task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzySearchBenchmark {
+    private static final String[] WORDS = {"submit", "weekly", "report", "read", "chapter", "garbage", "collection",
+        "buy", "groceries", "call", "plumber", "review", "pull", "request", "book", "flight", "renew", "passport",
+        "water", "plants", "prepare", "slides", "team", "meeting", "fix", "bug", "update", "resume", "clean", "desk"};
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private TaskList tasks;
+
+    /**
+     * Creates a task list of the chosen size with deterministic descriptions and warms its word index.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(922);
+        List<Task> list = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            String desc = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            list.add(new ToDo(desc));
+        }
+        this.tasks = new TaskList(list);
+        FuzzySearch.select(this.tasks, "warm up", 1);
+    }
+
+    @Benchmark
+    public TaskList indexed() {
+        return FuzzySearch.select(this.tasks, "wekly reprot", 5);
+    }
+
+    @Benchmark
+    public TaskList indexedAfterAdd() {
+        return FuzzySearch.select(this.tasks.add(new ToDo("submit weekly report")), "wekly reprot", 5);
+    }
+
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (int i = 0; i < this.tasks.size(); i++) {
+            for (String word : this.tasks.get(i).toString().split(" ")) {
+                if (levenshtein(word, "reprot") <= 2) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,78 @@
+package corgi.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corgi.BenchmarkData;
+import corgi.parsers.TaskParser;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+
+/**
+ * Measures saving a task list to the data file and loading it back, from a handful of tasks to a million.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StorageBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    private File saveFile;
+    private File loadFile;
+    private Storage<Task> saveStorage;
+    private Storage<Task> loadStorage;
+    private TaskList tasks;
+
+    /**
+     * Creates the task list of the chosen size, and a data file holding it for loading.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.saveFile = File.createTempFile("corgi-save", ".txt");
+        this.loadFile = File.createTempFile("corgi-load", ".txt");
+
+        this.tasks = new TaskList(BenchmarkData.createTasks(this.size));
+        this.saveStorage = new Storage<>(new TaskParser(), this.saveFile.getPath());
+        this.loadStorage = new Storage<>(new TaskParser(), this.loadFile.getPath());
+        this.loadStorage.save(this.tasks);
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() {
+        this.saveFile.delete();
+        this.loadFile.delete();
+    }
+
+    @Benchmark
+    public TaskList save() {
+        this.saveStorage.save(this.tasks);
+        return this.tasks;
+    }
+
+    @Benchmark
+    public List<Task> load() {
+        return this.loadStorage.load();
+    }
+}
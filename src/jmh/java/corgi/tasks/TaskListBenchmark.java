@@ -0,0 +1,82 @@
+package corgi.tasks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import corgi.BenchmarkData;
+import corgi.ui.TextRenderer;
+
+/**
+ * Measures the task list operations behind every command, from a handful of tasks to a million.
+ * Every operation starts from the same list, which never changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskListBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList tasks;
+    private Task newTask;
+    private String keyword;
+    private final TextRenderer renderer = new TextRenderer();
+
+    /**
+     * Creates the task list of the chosen size.
+     */
+    @Setup
+    public void setUp() {
+        this.tasks = new TaskList(BenchmarkData.createTasks(this.size));
+        this.newTask = new ToDo("submit weekly report");
+        this.keyword = BenchmarkData.getWord(7) + " " + BenchmarkData.getWord(8);
+    }
+
+    @Benchmark
+    public TaskList add() {
+        return this.tasks.add(this.newTask);
+    }
+
+    @Benchmark
+    public TaskList remove() throws TaskListIndexOutOfBoundsException {
+        return this.tasks.remove(this.size / 2);
+    }
+
+    /**
+     * Marks the middle task as done, or as not done if it already is.
+     */
+    @Benchmark
+    public TaskList mark() throws TaskListIndexOutOfBoundsException, TaskStatusException {
+        int index = this.size / 2;
+        return this.tasks.mark(index, !this.tasks.get(index).isDone());
+    }
+
+    @Benchmark
+    public TaskList filter() {
+        return this.tasks.filter(task -> task.contains(this.keyword));
+    }
+
+    @Benchmark
+    public String render() {
+        return this.renderer.showTaskList(this.tasks.toString());
+    }
+
+    @Benchmark
+    public String storableString() {
+        return this.tasks.getStorableString();
+    }
+}
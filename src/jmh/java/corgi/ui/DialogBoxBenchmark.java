@@ -0,0 +1,95 @@
+package corgi.ui;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+
+/**
+ * Measures how many dialog boxes can be made per second: loaded from the former FXML layout, built in code,
+ * or refilled as the conversation list does when a cell is reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogBoxBenchmark {
+    private static final String TEXT = "Woof, whatever. I've added this task:\n\n[T][ ] submit weekly report\n\n"
+            + "Now you have 42 tasks in the list.";
+
+    private Image image;
+    private DialogBox reusedBox;
+    private int count;
+
+    /**
+     * Starts the JavaFX toolkit, which is needed to decode the picture, and loads the picture once.
+     */
+    @Setup
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit is already running
+            started.countDown();
+        }
+        started.await();
+
+        this.image = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/corgi.jpg"));
+        this.reusedBox = new DialogBox();
+    }
+
+    /**
+     * Stops the JavaFX toolkit.
+     */
+    @TearDown
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    /**
+     * Creates a dialog box by loading the FXML layout it was previously built from.
+     */
+    @Benchmark
+    public HBox loadFromFxml() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(DialogBoxBenchmark.class.getResource("/view/DialogBox.fxml"));
+        fxmlLoader.setRoot(new HBox());
+        return fxmlLoader.load();
+    }
+
+    /**
+     * Creates a Corgi dialog box in code.
+     */
+    @Benchmark
+    public HBox build() {
+        return DialogBox.getCorgiDialog(TEXT, this.image);
+    }
+
+    /**
+     * Shows the next message in an existing dialog box, alternating between the user and Corgi.
+     */
+    @Benchmark
+    public HBox reuse() {
+        this.count++;
+        this.reusedBox.show(TEXT, this.image, (this.count & 1) == 0);
+        return this.reusedBox;
+    }
+}
@@ -0,0 +1,95 @@
+package corgi.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering responses from templates with joining their lines by string concatenation, as the
+ * renderer used to. Run with {@code --args="TextRendererBenchmark -prof gc"} to see the bytes allocated
+ * per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextRendererBenchmark {
+    @Param({"10", "10000"})
+    private int size;
+
+    private final TextRenderer renderer = new TextRenderer();
+    private String taskList;
+
+    /**
+     * Prepares a numbered task list of the chosen size.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= this.size; i++) {
+            if (i > 1) {
+                sb.append('\n');
+            }
+            sb.append(i).append(") [D][ ] submit weekly report ").append(i).append(" (by: Dec 01 2026)");
+        }
+        this.taskList = sb.toString();
+    }
+
+    @Benchmark
+    public String renderTaskList() {
+        return this.renderer.showTaskList(this.taskList);
+    }
+
+    @Benchmark
+    public String concatenateTaskList() {
+        return concatenate("Here's the list of tasks that better be done:", "", this.taskList);
+    }
+
+    @Benchmark
+    public String renderError() {
+        return this.renderer.showError("InvalidCommandFormatException", "Invalid date format!");
+    }
+
+    @Benchmark
+    public String concatenateError() {
+        return concatenate(
+                concatenate("Woof?!", "", "Are you trying to confuse me with this nonsense? Try again hooman!"),
+                "Error: \n" + "Invalid date format!");
+    }
+
+    @Benchmark
+    public String renderTaskAdded() {
+        return this.renderer.showTaskAdded("deadline", "[D][ ] submit weekly report (by: Dec 01 2026)", this.size);
+    }
+
+    @Benchmark
+    public String concatenateTaskAdded() {
+        return concatenate(
+                "Woof, whatever. I've added this " + "deadline" + ":\n",
+                "[D][ ] submit weekly report (by: Dec 01 2026)",
+                "\nNow you have " + this.size + " " + (this.size > 1 ? "tasks" : "task") + " in the list.");
+    }
+
+    /**
+     * Joins lines as the renderer did before its messages were templates.
+     */
+    private static String concatenate(String... messages) {
+        String msg = "";
+        for (String message : messages) {
+            msg += message + "\n";
+        }
+        return msg;
+    }
+}
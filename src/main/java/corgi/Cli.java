@@ -0,0 +1,80 @@
+package corgi;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Runs Corgi in the console without starting the GUI.
+ *
+ * Commands are read from the standard input, one per line, and the responses are written to the standard output.
+ * The output is flushed whenever no more input is waiting, so an interactive session sees every response at once
+ * while a piped command file is answered without a flush per command.
+ */
+public class Cli {
+    private final Corgi corgi;
+    private final BufferedReader in;
+    private final PrintWriter out;
+
+    /**
+     * Constructs a console session for the given chatbot.
+     *
+     * @param corgi The chatbot to send the commands to.
+     * @param in The reader of the commands.
+     * @param out The writer of the responses.
+     */
+    public Cli(Corgi corgi, BufferedReader in, PrintWriter out) {
+        this.corgi = corgi;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Starts a console session with the tasks in the data file given as the first argument,
+     * or in the default data file.
+     *
+     * @param args Optional path of the data file.
+     * @throws IOException If the commands cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Corgi corgi = args.length > 0 ? new Corgi(args[0]) : new Corgi();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+
+        new Cli(corgi, in, out).run();
+    }
+
+    /**
+     * Shows the introduction and answers commands until the exit command or the end of the input.
+     * Blank lines are ignored.
+     *
+     * @throws IOException If the commands cannot be read.
+     */
+    public void run() throws IOException {
+        out.print(corgi.getLogo());
+        out.println(corgi.getIntro());
+        out.flush();
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            String input = line.trim();
+            if (input.isEmpty()) {
+                continue;
+            }
+
+            out.println(corgi.getResponse(input));
+
+            if (corgi.isExit()) {
+                break;
+            }
+            if (!in.ready()) {
+                out.flush();
+            }
+        }
+
+        out.flush();
+    }
+}
@@ -1,9 +1,15 @@
 package corgi;
 
+import java.util.List;
 import java.util.Stack;
+import java.util.function.DoubleConsumer;
 
 import corgi.commands.Command;
 import corgi.commands.CommandExecutionException;
+import corgi.memory.MemoryGuard;
+import corgi.metrics.CommandExecuteEvent;
+import corgi.metrics.CommandMetrics;
+import corgi.metrics.CommandParseEvent;
 import corgi.parsers.CommandParser;
 import corgi.parsers.InvalidCommandFormatException;
 import corgi.parsers.InvalidCommandTypeException;
@@ -22,46 +28,191 @@ import javafx.util.Pair;
  * This class initializes the chatbot and handles user input and commands.
  */
 public class Corgi {
-    private State state;
+    private static final String DEFAULT_FILE_PATH = "./data/tasks.txt";
+    private static final int TRIMMED_HISTORY_DEPTH = 10;
+
+    private final CommandParser parser;
+    private volatile State state;
     private Stack<Pair<State, Command>> history;
+    private boolean isExit;
+    private long lastPressureCount = MemoryGuard.getPressureCount();
 
     /**
      * Constructs new Corgi chatbot with an empty task list,
      * a text renderer, a storage and a history stack.
      */
     public Corgi() {
+        this(DEFAULT_FILE_PATH);
+    }
+
+    /**
+     * Constructs new Corgi chatbot that loads and stores its tasks in the given file.
+     *
+     * @param filePath The path of the data file.
+     */
+    public Corgi(String filePath) {
+        this(filePath, progress -> { });
+    }
+
+    /**
+     * Constructs new Corgi chatbot that loads its tasks from the default file, reporting the loading progress.
+     *
+     * @param progressListener The listener for the fraction of the file loaded so far, from 0 to 1.
+     */
+    public Corgi(DoubleConsumer progressListener) {
+        this(DEFAULT_FILE_PATH, progressListener);
+    }
+
+    /**
+     * Constructs new Corgi chatbot that loads and stores its tasks in the given file,
+     * reporting the loading progress.
+     *
+     * @param filePath The path of the data file.
+     * @param progressListener The listener for the fraction of the file loaded so far, from 0 to 1.
+     */
+    public Corgi(String filePath, DoubleConsumer progressListener) {
         TextRenderer newRenderer = new TextRenderer();
-        Storage<Task> newStorage = new Storage<>(new TaskParser(), "./data/tasks.txt");
-        TaskList newList = new TaskList(newStorage.load());
+        Storage<Task> newStorage = new Storage<>(new TaskParser(), filePath);
+        TaskList newList = new TaskList(newStorage.load(progressListener));
         this.state = new State(newList, newStorage, newRenderer);
         this.history = new Stack<>();
+        this.parser = new CommandParser();
+    }
+
+    public String getLogo() {
+        return this.state.getTextRenderer().showLogo();
     }
 
     public String getIntro() {
         return this.state.getTextRenderer().showIntro();
     }
 
+    /**
+     * Suggests completions of the commands and arguments for partially typed input.
+     *
+     * @param input The input typed so far.
+     * @return The completed inputs.
+     */
+    public List<String> complete(String input) {
+        return this.parser.getRegistry().complete(input);
+    }
+
+    /**
+     * Returns the number of tasks in the current task list.
+     *
+     * @return The number of tasks.
+     */
+    public int getTaskCount() {
+        return this.state.getTaskList().size();
+    }
+
+    /**
+     * Returns the current task list. The list never changes, so it can be read while commands run.
+     *
+     * @return The current task list.
+     */
+    public TaskList getTaskList() {
+        return this.state.getTaskList();
+    }
+
+    /**
+     * Checks whether the last command asked to exit the application.
+     *
+     * @return True if the last command was an exit command, else false.
+     */
+    public boolean isExit() {
+        return this.isExit;
+    }
+
+    /**
+     * Stores the current task list to local.
+     */
+    public void save() {
+        this.state.save();
+    }
+
+    /**
+     * Frees memory held for speed and convenience: keeps only the latest {@value #TRIMMED_HISTORY_DEPTH} changes
+     * in the undo history, and drops the search caches of the task lists, which are rebuilt on next use.
+     * Called when the {@link MemoryGuard} finds the heap above its budget.
+     */
+    public void trimMemory() {
+        int excess = this.history.size() - TRIMMED_HISTORY_DEPTH;
+        if (excess > 0) {
+            this.history.subList(0, excess).clear();
+        }
+        this.state.getTaskList().clearCaches();
+        for (Pair<State, Command> entry : this.history) {
+            entry.getKey().getTaskList().clearCaches();
+        }
+    }
+
     /**
      * Starts the chatbot - Corgi.
      */
     public String getResponse(String input) {
+        return this.getResponse(input, null);
+    }
+
+    /**
+     * Runs a command that was built without parsing, such as a search entered in the live filter.
+     *
+     * @param input The command word of the command, which names it in the metrics.
+     * @param command The command to run, or null to parse the input into one.
+     * @return Corgi's reply.
+     */
+    public String getResponse(String input, Command command) {
         assert !input.equals("") : "Input cannot be empty";
 
         Command cmd = null;
+        this.isExit = false;
+
+        long pressureCount = MemoryGuard.getPressureCount();
+        if (pressureCount != this.lastPressureCount) {
+            this.lastPressureCount = pressureCount;
+            this.trimMemory();
+        }
+
+        CommandMetrics.startCommand(input, this.parser.getRegistry());
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        parseEvent.begin();
 
         try {
-            cmd = new CommandParser().parse(input);
+            cmd = command == null ? this.parser.parse(input) : command;
             assert cmd != null : "Command returned from parser cannot be null";
+            CommandMetrics.endParse();
+            parseEvent.finish(input, true);
+
+            executeEvent.begin();
             Pair<State, String> result = cmd.execute(this.state, this.history);
             this.state = result.getKey();
+            this.isExit = cmd.isExit();
+            CommandMetrics.endExecute(this.state.getTaskList().size(), this.history.size());
+            executeEvent.finish(input, this.state.getTaskList().size(), true);
             return result.getValue();
         } catch (InvalidCommandFormatException e) {
+            CommandMetrics.recordError(e);
+            parseEvent.finish(input, false);
             return this.state.getTextRenderer().showError(e.getClass().getSimpleName(), e.getMessage());
         } catch (InvalidCommandTypeException e) {
+            CommandMetrics.recordError(e);
+            parseEvent.finish(input, false);
             // Todo: Print all valid commands
             return this.state.getTextRenderer().showError(e.getClass().getSimpleName(), e.getMessage());
         } catch (CommandExecutionException e) {
+            CommandMetrics.recordError(e);
+            executeEvent.finish(input, this.state.getTaskList().size(), false);
             return this.state.getTextRenderer().showError(e.getClass().getSimpleName(), e.getMessage());
+        } catch (RuntimeException e) {
+            // Ends the timing of the command, so that later saves on this thread are not added to it
+            CommandMetrics.recordError(e);
+            if (cmd == null) {
+                parseEvent.finish(input, false);
+            } else {
+                executeEvent.finish(input, this.state.getTaskList().size(), false);
+            }
+            throw e;
         }
     }
 }
@@ -3,6 +3,7 @@ package corgi;
 import java.io.IOException;
 
 import corgi.ui.MainWindow;
+import corgi.ui.StartupLog;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -12,10 +13,11 @@ import javafx.stage.Stage;
 
 /**
  * A GUI for Corgi using FXML.
+ * The window is shown first, and the tasks are loaded in the background.
  */
 public class Main extends Application {
 
-    private Corgi corgi = new Corgi();
+    private MainWindow mainWindow;
 
     @Override
     public void start(Stage stage) {
@@ -29,11 +31,20 @@ public class Main extends Application {
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setCorgi(corgi);
+            mainWindow = fxmlLoader.<MainWindow>getController();
             stage.show();
+            StartupLog.logWindowShown();
+            mainWindow.loadCorgi(Corgi::new);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.shutdown();
+        }
+    }
 }
 
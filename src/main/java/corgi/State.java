@@ -1,6 +1,9 @@
 package corgi;
 
+import java.time.LocalDate;
+
 import corgi.storage.Storage;
+import corgi.tasks.IndexRanges;
 import corgi.tasks.Task;
 import corgi.tasks.TaskList;
 import corgi.tasks.TaskListIndexOutOfBoundsException;
@@ -103,6 +106,58 @@ public final class State {
         return new State(newTaskList, storage, renderer);
     }
 
+    /**
+     * Mark the occurrence of the recurring task at the target index on a date to a given status.
+     *
+     * @param index The target index.
+     * @param date The date of the occurrence.
+     * @param status The expected status.
+     * @return New state with the updated task list.
+     * @throws TaskListIndexOutOfBoundsException
+     * @throws TaskStatusException
+     */
+    public State markOccurrence(int index, LocalDate date, boolean status)
+            throws TaskListIndexOutOfBoundsException, TaskStatusException {
+        TaskList newTaskList = this.tasks.markOccurrence(index, date, status);
+
+        this.storage.save(newTaskList);
+
+        return new State(newTaskList, storage, renderer);
+    }
+
+    /**
+     * Remove the tasks at the target indexes in the task list, saving the list once.
+     *
+     * @param indexes The target indexes.
+     * @return New state with the updated task list.
+     * @throws TaskListIndexOutOfBoundsException
+     */
+    public State removeTasks(IndexRanges indexes) throws TaskListIndexOutOfBoundsException {
+        TaskList newTaskList = this.tasks.removeAll(indexes);
+
+        this.storage.save(newTaskList);
+
+        return new State(newTaskList, storage, renderer);
+    }
+
+    /**
+     * Mark the tasks at the target indexes to a given status, saving the list once.
+     *
+     * @param indexes The target indexes.
+     * @param status The expected status.
+     * @return New state with the updated task list.
+     * @throws TaskListIndexOutOfBoundsException
+     * @throws TaskStatusException
+     */
+    public State markTasks(IndexRanges indexes, boolean status)
+            throws TaskListIndexOutOfBoundsException, TaskStatusException {
+        TaskList newTaskList = this.tasks.markAll(indexes, status);
+
+        this.storage.save(newTaskList);
+
+        return new State(newTaskList, storage, renderer);
+    }
+
     /**
      * Store the current task list to local.
      */
@@ -0,0 +1,19 @@
+package corgi;
+
+/**
+ * Parent of the exceptions caused by user input, such as an unknown command or a task number out of range.
+ *
+ * These errors are expected and are reported to the user as messages, never with a stack trace.
+ * So the constructor skips filling in the stack trace and recording suppressed exceptions,
+ * which would otherwise be most of the cost of rejecting invalid input.
+ */
+public class UserInputException extends Exception {
+    /**
+     * Constructs a new UserInputException with the specified error message.
+     *
+     * @param message The error message describing the error.
+     */
+    public UserInputException(String message) {
+        super(message, null, false, false);
+    }
+}
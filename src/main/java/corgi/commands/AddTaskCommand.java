@@ -5,6 +5,7 @@ import java.util.Stack;
 import corgi.State;
 import corgi.tasks.Deadline;
 import corgi.tasks.Event;
+import corgi.tasks.Recurring;
 import corgi.tasks.Task;
 import corgi.tasks.TaskList;
 import corgi.tasks.ToDo;
@@ -14,7 +15,7 @@ import javafx.util.Pair;
 /**
  * Represents a command to add a task to the task list.
  * This command adds a specified task to the task list.
- * The type of task (todo, deadline, or event) is determined by the command type.
+ * The type of task (todo, deadline, event or recurring task) is determined by the command type.
  */
 public class AddTaskCommand extends Command {
     /**
@@ -23,7 +24,7 @@ public class AddTaskCommand extends Command {
     private Task target;
 
     /**
-     * The type of task (todo, deadline, or event) being added.
+     * The type of task (todo, deadline, event or recurring task) being added.
      */
     private String taskType;
 
@@ -42,6 +43,8 @@ public class AddTaskCommand extends Command {
             this.taskType = "deadline";
         } else if (target instanceof Event) {
             this.taskType = "event";
+        } else if (target instanceof Recurring) {
+            this.taskType = "recurring task";
         }
     }
 
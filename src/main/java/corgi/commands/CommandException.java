@@ -1,9 +1,11 @@
 package corgi.commands;
 
+import corgi.UserInputException;
+
 /**
  * Parent exception class for chatbot command.
  */
-public class CommandException extends Exception {
+public class CommandException extends UserInputException {
     /**
      * Constructs a new CommandException using provided error message.
      *
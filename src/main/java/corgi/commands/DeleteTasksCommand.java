@@ -0,0 +1,75 @@
+package corgi.commands;
+
+import java.util.Stack;
+
+import corgi.State;
+import corgi.tasks.IndexRanges;
+import corgi.tasks.TaskList;
+import corgi.tasks.TaskListIndexOutOfBoundsException;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to delete several tasks from the task list at once.
+ * The tasks are removed in a single copy of the list, saved once and undone as a whole.
+ */
+public class DeleteTasksCommand extends Command {
+    /**
+     * The indexes of the tasks to be deleted.
+     */
+    private final IndexRanges indexes;
+
+    /**
+     * Initializes a new DeleteTasksCommand instance with the specified target indexes.
+     *
+     * @param indexes The indexes of the tasks to be deleted.
+     */
+    public DeleteTasksCommand(IndexRanges indexes) {
+        super(false);
+        this.indexes = indexes;
+    }
+
+    /**
+     * Executes the command by deleting the tasks at the specified indexes from the task list,
+     * saving the updated list to storage once, and storing the previous state to the history stack.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     * @throws CommandExecutionException If an error occurs during command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history)
+            throws CommandExecutionException {
+        try {
+            State newState = currState.removeTasks(this.indexes);
+
+            history.push(new Pair<>(currState, this));
+
+            TaskList currList = currState.getTaskList();
+            int[] targetIndexes = this.indexes.toArray();
+
+            StringBuilder tasksInfo = new StringBuilder();
+            for (int i = 0; i < targetIndexes.length; i++) {
+                if (i > 0) {
+                    tasksInfo.append('\n');
+                }
+                tasksInfo.append(targetIndexes[i] + 1).append(") ").append(currList.getTaskInfo(targetIndexes[i]));
+            }
+
+            TextRenderer renderer = newState.getTextRenderer();
+            TaskList list = newState.getTaskList();
+
+            String returnMsg = renderer.showTasksDeleted(tasksInfo.toString(), targetIndexes.length, list.size());
+
+            return new Pair<>(newState, returnMsg);
+        } catch (TaskListIndexOutOfBoundsException e) {
+            throw new CommandExecutionException("Invalid index provided!");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Delete tasks " + this.indexes;
+    }
+}
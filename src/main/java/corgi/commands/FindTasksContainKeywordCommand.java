@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import corgi.State;
 import corgi.tasks.Task;
 import corgi.tasks.TaskList;
+import corgi.tasks.TextNormalizer;
 import corgi.ui.TextRenderer;
 import javafx.util.Pair;
 
@@ -29,11 +30,28 @@ public class FindTasksContainKeywordCommand extends Command {
      * @param target The target keyword.
      */
     public FindTasksContainKeywordCommand(String target) {
+        this(target, false);
+    }
+
+    /**
+     * Initializes a new FindTasksContainKeywordCommand instance with the target keyword,
+     * optionally ignoring case and accents.
+     *
+     * @param target The target keyword.
+     * @param isIgnoringCase Whether to ignore case and accents when looking for the keyword.
+     */
+    public FindTasksContainKeywordCommand(String target, boolean isIgnoringCase) {
         super(false);
         this.target = target;
 
         // Define a predicate to filter tasks based on whether they contain the keyword.
-        this.predicate = t -> t.contains(target);
+        // The keyword is folded once here, and each task folds its description once in its lifetime.
+        if (isIgnoringCase) {
+            String foldedTarget = TextNormalizer.fold(target);
+            this.predicate = t -> t.containsIgnoreCase(foldedTarget);
+        } else {
+            this.predicate = t -> t.contains(target);
+        }
     }
 
     /**
@@ -55,7 +73,8 @@ public class FindTasksContainKeywordCommand extends Command {
 
         String returnMsg = tasksContainKeyword.isEmpty()
                 ? currTextRenderer.showKeywordNotFound(this.target)
-                : currTextRenderer.showTasksWithKeyword(this.target, tasksContainKeyword.toString());
+                : currTextRenderer.showTasksWithKeyword(this.target,
+                        currTextRenderer.formatTasks(tasksContainKeyword));
 
         return new Pair<>(currState, returnMsg);
     }
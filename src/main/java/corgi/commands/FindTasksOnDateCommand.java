@@ -2,11 +2,8 @@ package corgi.commands;
 
 import java.time.LocalDate;
 import java.util.Stack;
-import java.util.function.Predicate;
 
 import corgi.State;
-import corgi.tasks.Deadline;
-import corgi.tasks.Event;
 import corgi.tasks.Task;
 import corgi.tasks.TaskList;
 import corgi.ui.TextRenderer;
@@ -14,14 +11,9 @@ import javafx.util.Pair;
 
 /**
  * Represents a command to find tasks on a specific date in the task list.
- * This command filters the task list based on a given predicate to find tasks on the specified date.
+ * Recurring tasks happening on the date are listed as their occurrence on that date.
  */
 public class FindTasksOnDateCommand extends Command {
-    /**
-     * The predicate used to filter tasks by date.
-     */
-    private Predicate<Task> predicate;
-
     /**
      * The target date for finding tasks.
      */
@@ -35,22 +27,10 @@ public class FindTasksOnDateCommand extends Command {
     public FindTasksOnDateCommand(LocalDate target) {
         super(false);
         this.target = target;
-
-        // Define a predicate to filter tasks based on whether they are happening on the target date.
-        this.predicate = t -> {
-            if (t instanceof Deadline) {
-                Deadline d = (Deadline) t;
-                return d.isHappeningOnDate(this.target);
-            } else if (t instanceof Event) {
-                Event e = (Event) t;
-                return e.isHappeningOnDate(this.target);
-            }
-            return false;
-        };
     }
 
     /**
-     * Executes the command by filtering the task list based on the given predicate to find tasks on the specified date.
+     * Executes the command by filtering the task list to find tasks on the specified date.
      * It then returns the filtered tasks to the user or a message indicating that no tasks were found on the date.
      *
      * @param currState The current state of the application.
@@ -62,13 +42,13 @@ public class FindTasksOnDateCommand extends Command {
         TaskList currList = currState.getTaskList();
         TextRenderer currTextRenderer = currState.getTextRenderer();
 
-        TaskList tasksOnDate = currList.filter(predicate);
+        TaskList tasksOnDate = currList.getOnDate(this.target);
 
         String outputDate = this.target.format(Task.DATE_OUTPUT_FORMATTER);
 
         String returnMsg = tasksOnDate.isEmpty()
                 ? currTextRenderer.showNoTaskOnDate(outputDate)
-                : currTextRenderer.showTasksOnDate(outputDate, tasksOnDate.toString());
+                : currTextRenderer.showTasksOnDate(outputDate, currTextRenderer.formatTasks(tasksOnDate));
 
         return new Pair<>(currState, returnMsg);
     }
@@ -0,0 +1,63 @@
+package corgi.commands;
+
+import java.util.Stack;
+
+import corgi.State;
+import corgi.query.FuzzySearch;
+import corgi.tasks.TaskList;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to find the tasks closest to a keyword in the task list, tolerating typos.
+ */
+public class FuzzyFindTasksCommand extends Command {
+    /**
+     * The number of tasks returned when no limit is given.
+     */
+    public static final int DEFAULT_LIMIT = 5;
+
+    /**
+     * The target keyword for finding tasks.
+     */
+    private final String target;
+
+    /**
+     * The largest number of tasks to return.
+     */
+    private final int limit;
+
+    /**
+     * Initializes a new FuzzyFindTasksCommand instance with the target keyword and the number of tasks to return.
+     *
+     * @param target The target keyword.
+     * @param limit The largest number of tasks to return.
+     */
+    public FuzzyFindTasksCommand(String target, int limit) {
+        super(false);
+        this.target = target;
+        this.limit = limit;
+    }
+
+    /**
+     * Executes the command by ranking the tasks by their edit distance to the keyword.
+     * It then returns the closest tasks to the user or a message indicating that no task was close enough.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history) {
+        TaskList currList = currState.getTaskList();
+        TextRenderer currTextRenderer = currState.getTextRenderer();
+
+        TaskList closestTasks = FuzzySearch.select(currList, this.target, this.limit);
+
+        String returnMsg = closestTasks.isEmpty()
+                ? currTextRenderer.showKeywordNotFound(this.target)
+                : currTextRenderer.showTasksCloseToKeyword(this.target, currTextRenderer.formatTasks(closestTasks));
+
+        return new Pair<>(currState, returnMsg);
+    }
+}
@@ -34,7 +34,7 @@ public class ListTasksCommand extends Command {
 
         String returnMsg = currList.isEmpty()
                 ? currRenderer.showNoTaskFound()
-                : currRenderer.showTaskList(currList.toString());
+                : currRenderer.showTaskList(currRenderer.formatTasks(currList));
 
         return new Pair<>(currState, returnMsg);
     }
@@ -0,0 +1,62 @@
+package corgi.commands;
+
+import java.time.LocalDate;
+import java.util.Stack;
+
+import corgi.State;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to list the next undone deadlines and events from a date.
+ */
+public class ListUpcomingTasksCommand extends Command {
+    /**
+     * The largest number of tasks to list.
+     */
+    private final int count;
+
+    /**
+     * The first date of the tasks to list, or null for the day the command is executed.
+     */
+    private final LocalDate from;
+
+    /**
+     * Initializes a new ListUpcomingTasksCommand instance with the number of tasks and the first date.
+     *
+     * @param count The largest number of tasks to list.
+     * @param from The first date of the tasks, or null for the day the command is executed.
+     */
+    public ListUpcomingTasksCommand(int count, LocalDate from) {
+        super(false);
+        this.count = count;
+        this.from = from;
+    }
+
+    /**
+     * Executes the command by reading the next tasks from the upcoming index of the task list.
+     * It then returns the tasks to the user or a message indicating that nothing is coming up.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history) {
+        TaskList currList = currState.getTaskList();
+        TextRenderer currTextRenderer = currState.getTextRenderer();
+
+        LocalDate firstDate = this.from == null ? LocalDate.now() : this.from;
+        TaskList upcomingTasks = currList.getUpcoming(firstDate, this.count);
+
+        String outputDate = firstDate.format(Task.DATE_OUTPUT_FORMATTER);
+
+        String returnMsg = upcomingTasks.isEmpty()
+                ? currTextRenderer.showNoUpcomingTask(outputDate)
+                : currTextRenderer.showUpcomingTasks(outputDate, currTextRenderer.formatTasks(upcomingTasks));
+
+        return new Pair<>(currState, returnMsg);
+    }
+}
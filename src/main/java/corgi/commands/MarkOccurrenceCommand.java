@@ -0,0 +1,87 @@
+package corgi.commands;
+
+import java.time.LocalDate;
+import java.util.Stack;
+
+import corgi.State;
+import corgi.tasks.Recurring;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.TaskListIndexOutOfBoundsException;
+import corgi.tasks.TaskStatusException;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to mark a single occurrence of a recurring task as done or undone.
+ * The occurrence is stored as an exception to the rule of the recurring task.
+ */
+public class MarkOccurrenceCommand extends Command {
+    /**
+     * The index of the recurring task.
+     */
+    private final int index;
+
+    /**
+     * The date of the occurrence to be marked.
+     */
+    private final LocalDate date;
+
+    /**
+     * The new status of the occurrence (true for done, false for undone).
+     */
+    private final boolean isDone;
+
+    /**
+     * Initializes a new MarkOccurrenceCommand instance with the specified index, date and status.
+     *
+     * @param index The index of the recurring task.
+     * @param date The date of the occurrence to be marked.
+     * @param isDone The new status of the occurrence (true for done, false for undone).
+     */
+    public MarkOccurrenceCommand(int index, LocalDate date, boolean isDone) {
+        super(false);
+        this.index = index;
+        this.date = date;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Executes the command by marking the occurrence of the task at the specified index with the new status,
+     * saving the updated list to storage.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     * @throws CommandExecutionException If an error occurs during command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history)
+            throws CommandExecutionException {
+        try {
+            State newState = currState.markOccurrence(this.index, this.date, this.isDone);
+
+            history.push(new Pair<>(currState, this));
+
+            TextRenderer renderer = newState.getTextRenderer();
+            TaskList list = newState.getTaskList();
+            Task occurrence = ((Recurring) list.get(this.index)).getOccurrence(this.date);
+
+            String returnMsg = (isDone)
+                    ? renderer.showTaskDone(occurrence.toString())
+                    : renderer.showTaskUndone(occurrence.toString());
+
+            return new Pair<>(newState, returnMsg);
+        } catch (TaskListIndexOutOfBoundsException e) {
+            throw new CommandExecutionException("Invalid index provided!");
+        } catch (TaskStatusException e) {
+            throw new CommandExecutionException(e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        String action = this.isDone ? "Mark" : "Unmark";
+        return action + " task " + (this.index + 1) + " on " + this.date.format(Task.DATE_INPUT_FORMATTER);
+    }
+}
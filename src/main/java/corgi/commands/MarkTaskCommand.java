@@ -25,11 +25,10 @@ public class MarkTaskCommand extends Command {
     private boolean isDone;
 
     /**
-     * Initializes a new MarkTaskCommand instance with the specified index, status, and command type.
+     * Initializes a new MarkTaskCommand instance with the specified index and status.
      *
      * @param index The index of the task to be marked.
      * @param isDone The new status of the task (true for done, false for undone).
-     * @param type The type of command (CommandType.MARK_DONE or CommandType.MARK_UNDONE).
      */
     public MarkTaskCommand(int index, boolean isDone) {
         super(false);
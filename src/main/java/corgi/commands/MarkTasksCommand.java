@@ -0,0 +1,91 @@
+package corgi.commands;
+
+import java.util.Stack;
+
+import corgi.State;
+import corgi.tasks.IndexRanges;
+import corgi.tasks.TaskList;
+import corgi.tasks.TaskListIndexOutOfBoundsException;
+import corgi.tasks.TaskStatusException;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to mark several tasks as done or undone in the task list at once.
+ * The tasks are updated in a single copy of the list, saved once and undone as a whole.
+ */
+public class MarkTasksCommand extends Command {
+    /**
+     * The indexes of the tasks to be marked.
+     */
+    private final IndexRanges indexes;
+
+    /**
+     * The new status of the tasks (true for done, false for undone).
+     */
+    private final boolean isDone;
+
+    /**
+     * Initializes a new MarkTasksCommand instance with the specified indexes and status.
+     *
+     * @param indexes The indexes of the tasks to be marked.
+     * @param isDone The new status of the tasks (true for done, false for undone).
+     */
+    public MarkTasksCommand(IndexRanges indexes, boolean isDone) {
+        super(false);
+        this.indexes = indexes;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Executes the command by marking the tasks at the specified indexes with the new status,
+     * saving the updated list to storage once. Tasks already in that status are left as they are.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     * @throws CommandExecutionException If an error occurs during command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history)
+            throws CommandExecutionException {
+        try {
+            State newState = currState.markTasks(this.indexes, this.isDone);
+
+            history.push(new Pair<>(currState, this));
+
+            TextRenderer renderer = newState.getTextRenderer();
+            TaskList currList = currState.getTaskList();
+            TaskList list = newState.getTaskList();
+
+            StringBuilder tasksInfo = new StringBuilder();
+            int count = 0;
+            for (int index : this.indexes.toArray()) {
+                if (currList.get(index).isDone() == this.isDone) {
+                    continue;
+                }
+                if (count > 0) {
+                    tasksInfo.append('\n');
+                }
+                tasksInfo.append(index + 1).append(") ").append(list.getTaskInfo(index));
+                count++;
+            }
+
+            String returnMsg = (isDone)
+                    ? renderer.showTasksDone(tasksInfo.toString(), count)
+                    : renderer.showTasksUndone(tasksInfo.toString(), count);
+
+            return new Pair<>(newState, returnMsg);
+        } catch (TaskListIndexOutOfBoundsException e) {
+            throw new CommandExecutionException("Invalid index provided!");
+        } catch (TaskStatusException e) {
+            throw new CommandExecutionException("The tasks are already in that status!");
+        }
+    }
+
+    @Override
+    public String toString() {
+        String action = this.isDone ? "Mark" : "Unmark";
+        return action + " tasks " + this.indexes;
+    }
+}
@@ -0,0 +1,54 @@
+package corgi.commands;
+
+import java.util.Stack;
+
+import corgi.State;
+import corgi.query.QueryPlanner;
+import corgi.query.TaskQuery;
+import corgi.tasks.TaskList;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to find the tasks matching a query in the task list.
+ */
+public class QueryTasksCommand extends Command {
+    /**
+     * The query the tasks must match.
+     */
+    private final TaskQuery query;
+
+    /**
+     * Initializes a new QueryTasksCommand instance with the query.
+     *
+     * @param query The query.
+     */
+    public QueryTasksCommand(TaskQuery query) {
+        super(false);
+        this.query = query;
+    }
+
+    /**
+     * Executes the command by letting the query planner select the matching tasks from the task list.
+     * It then returns the matching tasks to the user or a message indicating that no task matched.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the new state and a string message indicating the result of the command execution.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history) {
+        TaskList currList = currState.getTaskList();
+        TextRenderer currTextRenderer = currState.getTextRenderer();
+
+        TaskList matchingTasks = QueryPlanner.select(currList, this.query);
+
+        String conditions = this.query.toString();
+
+        String returnMsg = matchingTasks.isEmpty()
+                ? currTextRenderer.showNoTaskMatchingQuery(conditions)
+                : currTextRenderer.showTasksMatchingQuery(conditions, currTextRenderer.formatTasks(matchingTasks));
+
+        return new Pair<>(currState, returnMsg);
+    }
+}
@@ -0,0 +1,46 @@
+package corgi.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import corgi.State;
+import corgi.memory.FootprintReport;
+import corgi.memory.MemoryGuard;
+import corgi.tasks.TaskList;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to show an estimate of the memory held by the task list, its caches and the undo history.
+ */
+public class ShowFootprintCommand extends Command {
+    /**
+     * Initializes a new ShowFootprintCommand instance.
+     */
+    public ShowFootprintCommand() {
+        super(false);
+    }
+
+    /**
+     * Executes the command by estimating the memory held by the current task list
+     * and the task lists of the history.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the current state and the estimate.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history) {
+        TextRenderer renderer = currState.getTextRenderer();
+
+        List<TaskList> previousLists = new ArrayList<>(history.size());
+        for (Pair<State, Command> entry : history) {
+            previousLists.add(entry.getKey().getTaskList());
+        }
+        FootprintReport report = FootprintReport.estimate(currState.getTaskList(), previousLists,
+                MemoryGuard.getBudgetBytes());
+
+        return new Pair<>(currState, renderer.showFootprint(report.getReport()));
+    }
+}
@@ -0,0 +1,39 @@
+package corgi.commands;
+
+import java.util.Stack;
+
+import corgi.State;
+import corgi.metrics.CommandMetrics;
+import corgi.ui.TextRenderer;
+import javafx.util.Pair;
+
+/**
+ * Represents a command to show the latency, error and size metrics collected while answering commands.
+ */
+public class ShowMetricsCommand extends Command {
+    /**
+     * Initializes a new ShowMetricsCommand instance.
+     */
+    public ShowMetricsCommand() {
+        super(false);
+    }
+
+    /**
+     * Executes the command by rendering the metrics collected so far,
+     * or a hint on how to enable them if they are not collected.
+     *
+     * @param currState The current state of the application.
+     * @param history The history stack to store the states.
+     * @return A pair containing the current state and the metrics report.
+     */
+    @Override
+    public Pair<State, String> execute(State currState, Stack<Pair<State, Command>> history) {
+        TextRenderer renderer = currState.getTextRenderer();
+
+        String returnMsg = CommandMetrics.ENABLED
+                ? renderer.showMetrics(CommandMetrics.getInstance().getReport())
+                : renderer.showMetricsDisabled();
+
+        return new Pair<>(currState, returnMsg);
+    }
+}
@@ -0,0 +1,122 @@
+package corgi.memory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Estimates the heap size of objects, assuming the layout of a 64-bit HotSpot JVM with compressed references,
+ * the default for heaps below 32 GB: 12-byte object headers, 16-byte array headers, 4-byte references and
+ * sizes rounded up to 8 bytes.
+ *
+ * An estimate also remembers the objects it has counted, so that objects shared between several task lists
+ * are only counted once.
+ */
+public final class Footprint {
+    /** The size of a {@code LocalDate}: a header, an int and two shorts. */
+    public static final long LOCAL_DATE = 24;
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+
+    /** The size of a {@code String} without its characters: a header, a reference, a hash and two flags. */
+    private static final long STRING = 24;
+
+    /** The size of a {@code HashMap} without its table and entries. */
+    private static final long HASH_MAP = 48;
+
+    /** The size of an entry of a {@code HashMap}: a header, a hash and three references. */
+    private static final long HASH_MAP_NODE = 32;
+
+    /** The size of an {@code ArrayList} without its array. */
+    private static final long ARRAY_LIST = 24;
+
+    private final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Marks an object as counted.
+     *
+     * @param object The object about to be counted.
+     * @return True if the object had not been counted yet, else false.
+     */
+    public boolean add(Object object) {
+        return this.counted.add(object);
+    }
+
+    /**
+     * Estimates the size of an object, without the objects it refers to.
+     *
+     * @param references The number of reference fields.
+     * @param primitiveBytes The total size of the primitive fields.
+     * @return The size in bytes.
+     */
+    public static long ofObject(int references, int primitiveBytes) {
+        return align(OBJECT_HEADER + (long) references * REFERENCE + primitiveBytes);
+    }
+
+    /**
+     * Estimates the size of an array of primitives.
+     *
+     * @param length The length of the array.
+     * @param elementBytes The size of an element, e.g. 4 for an int.
+     * @return The size in bytes.
+     */
+    public static long ofArray(int length, int elementBytes) {
+        return align(ARRAY_HEADER + (long) length * elementBytes);
+    }
+
+    /**
+     * Estimates the size of an array of references, without the objects it refers to.
+     *
+     * @param length The length of the array.
+     * @return The size in bytes.
+     */
+    public static long ofReferenceArray(int length) {
+        return ofArray(length, REFERENCE);
+    }
+
+    /**
+     * Estimates the size of a string with its characters, stored one byte each when they all fit in Latin-1.
+     *
+     * @param text The string.
+     * @return The size in bytes.
+     */
+    public static long ofString(String text) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING + ofArray(text.length(), bytesPerChar);
+    }
+
+    /**
+     * Estimates the size of a {@code HashMap} or {@code HashSet} with its table and entries, without the keys
+     * and values.
+     *
+     * @param size The number of entries.
+     * @return The size in bytes.
+     */
+    public static long ofHashMap(int size) {
+        int tableLength = size == 0 ? 0 : Integer.highestOneBit(Math.max((int) (size / 0.75f), 1) * 2 - 1);
+        return HASH_MAP + ofReferenceArray(tableLength) + size * HASH_MAP_NODE;
+    }
+
+    /**
+     * Estimates the size of an {@code ArrayList} with its array, without the elements.
+     *
+     * @param size The number of elements.
+     * @return The size in bytes.
+     */
+    public static long ofArrayList(int size) {
+        return ARRAY_LIST + ofReferenceArray(size);
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
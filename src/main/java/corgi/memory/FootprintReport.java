@@ -0,0 +1,160 @@
+package corgi.memory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+
+/**
+ * An estimate of the heap retained by a chatbot: its current tasks by type, the task list, the search caches
+ * and the undo history, with how many tasks of the same kind would fit in a memory budget.
+ *
+ * Task lists in the undo history share most of their tasks and caches with the current list, so the history
+ * is counted as what it retains on top of the current list, i.e. what undoing everything would free.
+ */
+public final class FootprintReport {
+    private final Map<String, Integer> taskCounts = new TreeMap<>();
+    private final Map<String, Long> taskBytes = new TreeMap<>();
+    private final long budgetBytes;
+    private int taskCount;
+    private long totalTaskBytes;
+    private long listBytes;
+    private long cacheBytes;
+    private int historyDepth;
+    private long historyBytes;
+
+    private FootprintReport(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Estimates the heap retained by a task list and the task lists of its undo history.
+     *
+     * @param current The current task list.
+     * @param history The task lists the undo history can go back to.
+     * @param budgetBytes The memory budget in bytes.
+     * @return The estimate.
+     */
+    public static FootprintReport estimate(TaskList current, List<TaskList> history, long budgetBytes) {
+        FootprintReport report = new FootprintReport(budgetBytes);
+        Footprint footprint = new Footprint();
+
+        footprint.add(current);
+        for (int i = 0; i < current.size(); i++) {
+            Task task = current.get(i);
+            if (footprint.add(task)) {
+                String type = task.getClass().getSimpleName();
+                long size = task.estimateFootprint();
+                report.taskCounts.merge(type, 1, Integer::sum);
+                report.taskBytes.merge(type, size, Long::sum);
+                report.totalTaskBytes += size;
+            }
+        }
+        report.taskCount = current.size();
+        report.listBytes = current.estimateListFootprint();
+        report.cacheBytes = current.estimateCacheFootprint(footprint);
+
+        report.historyDepth = history.size();
+        for (TaskList list : history) {
+            if (!footprint.add(list)) {
+                continue;
+            }
+            report.historyBytes += list.estimateListFootprint() + list.estimateCacheFootprint(footprint);
+            for (int i = 0; i < list.size(); i++) {
+                Task task = list.get(i);
+                if (footprint.add(task)) {
+                    report.historyBytes += task.estimateFootprint();
+                }
+            }
+        }
+        return report;
+    }
+
+    public int getTaskCount() {
+        return this.taskCount;
+    }
+
+    public long getTaskBytes() {
+        return this.totalTaskBytes;
+    }
+
+    public long getListBytes() {
+        return this.listBytes;
+    }
+
+    public long getCacheBytes() {
+        return this.cacheBytes;
+    }
+
+    public int getHistoryDepth() {
+        return this.historyDepth;
+    }
+
+    public long getHistoryBytes() {
+        return this.historyBytes;
+    }
+
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    /**
+     * Returns the estimated heap retained by the current tasks of a type.
+     *
+     * @param type The simple class name of the type, e.g. {@code Deadline}.
+     * @return The size in bytes, or 0 if there is no task of the type.
+     */
+    public long getTaskBytes(String type) {
+        return this.taskBytes.getOrDefault(type, 0L);
+    }
+
+    public long getTotalBytes() {
+        return this.totalTaskBytes + this.listBytes + this.cacheBytes + this.historyBytes;
+    }
+
+    /**
+     * Returns the number of tasks like the current ones, with their share of the list, caches and history,
+     * that would fit in the memory budget.
+     *
+     * @return The number of tasks, or 0 if there are no tasks to base the estimate on.
+     */
+    public long getTaskCapacity() {
+        long total = getTotalBytes();
+        return this.taskCount == 0 || total == 0 ? 0 : this.budgetBytes / Math.max(total / this.taskCount, 1);
+    }
+
+    /**
+     * Returns the estimate as text, one figure per line.
+     *
+     * @return The estimate, ending with a line break.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Tasks: %d, %s\n", this.taskCount, formatBytes(this.totalTaskBytes)));
+        for (Map.Entry<String, Integer> entry : this.taskCounts.entrySet()) {
+            long bytes = this.taskBytes.get(entry.getKey());
+            report.append(String.format("  %s: %d, %s (%d bytes each)\n", entry.getKey(), entry.getValue(),
+                    formatBytes(bytes), bytes / entry.getValue()));
+        }
+        report.append(String.format("Task list: %s\n", formatBytes(this.listBytes)))
+                .append(String.format("Search caches: %s\n", formatBytes(this.cacheBytes)))
+                .append(String.format("Undo history: %d %s, %s\n", this.historyDepth,
+                        this.historyDepth == 1 ? "change" : "changes", formatBytes(this.historyBytes)))
+                .append(String.format("Total: %s\n", formatBytes(getTotalBytes())))
+                .append(String.format("Budget: %s, room for about %d tasks\n", formatBytes(this.budgetBytes),
+                        getTaskCapacity()));
+        return report.toString();
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,76 @@
+package corgi.memory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+
+/**
+ * Warns Corgi when the heap still holds more than the memory budget after a garbage collection, so that it can
+ * trim its undo history and search caches before running out of memory.
+ *
+ * The budget is {@value #DEFAULT_BUDGET_PERCENT}% of the maximum heap by default, and can be set in megabytes
+ * with {@code -Dcorgi.memory.budgetMb=[N]}. It is shared between the heap pools that report their usage after
+ * a collection, in proportion to their size, and the JVM notifies the guard whenever one of them is still above
+ * its share once a collection is over. Chatbots poll {@link #getPressureCount()} after each command rather than
+ * being called back, as the notifications arrive on a JVM thread while the chatbot may be running a command.
+ */
+public final class MemoryGuard {
+    private static final int DEFAULT_BUDGET_PERCENT = 85;
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private static final long BUDGET_BYTES = readBudget();
+    private static final AtomicLong pressureCount = new AtomicLong();
+
+    static {
+        install();
+    }
+
+    private MemoryGuard() {
+    }
+
+    private static long readBudget() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long budgetMb = Long.getLong("corgi.memory.budgetMb", 0);
+        return budgetMb > 0 ? Math.min(budgetMb * MEGABYTE, maxHeap) : maxHeap / 100 * DEFAULT_BUDGET_PERCENT;
+    }
+
+    private static void install() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long poolMax = pool.getUsage().getMax();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && poolMax > 0) {
+                pool.setCollectionUsageThreshold((long) (poolMax * ((double) BUDGET_BYTES / maxHeap)));
+            }
+        }
+
+        NotificationEmitter emitter = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+        emitter.addNotificationListener(MemoryGuard::handleNotification, null, null);
+    }
+
+    private static void handleNotification(Notification notification, Object handback) {
+        if (!notification.getType().equals(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED)) {
+            return;
+        }
+        pressureCount.incrementAndGet();
+        System.err.println("[memory] Heap above the budget of " + BUDGET_BYTES / MEGABYTE
+                + " MB after a collection, trimming undo history and caches");
+    }
+
+    /**
+     * Returns the number of times the heap has been found above the budget after a collection.
+     * A chatbot that sees the count change since its last command should trim its memory.
+     *
+     * @return The number of times so far.
+     */
+    public static long getPressureCount() {
+        return pressureCount.get();
+    }
+
+    public static long getBudgetBytes() {
+        return BUDGET_BYTES;
+    }
+}
@@ -0,0 +1,49 @@
+package corgi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for running a parsed command, including saving the task list and rendering the reply.
+ * Disabled unless a recording enables {@code corgi.CommandExecute}.
+ */
+@Name("corgi.CommandExecute")
+@Label("Command Execute")
+@Category({"Corgi", "Commands"})
+@Description("Running a command, including saving the task list and rendering the reply")
+@Enabled(false)
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+    @Label("Command")
+    @Description("The type of the command")
+    private String command;
+
+    @Label("Task Count")
+    @Description("The number of tasks in the list after the command")
+    private int taskCount;
+
+    @Label("Succeeded")
+    @Description("Whether the command ran without an error")
+    private boolean hasSucceeded;
+
+    /**
+     * Ends the event and commits it if it is enabled. The fields are only filled in for committed events.
+     *
+     * @param input The input typed by the user.
+     * @param taskCount The number of tasks in the list after the command.
+     * @param hasSucceeded Whether the command ran without an error.
+     */
+    public void finish(String input, int taskCount, boolean hasSucceeded) {
+        if (shouldCommit()) {
+            this.command = CommandMetrics.getCommandWord(input);
+            this.taskCount = taskCount;
+            this.hasSucceeded = hasSucceeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package corgi.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import corgi.parsers.CommandDefinition;
+import corgi.parsers.CommandRegistry;
+
+/**
+ * Measures where the time goes when Corgi answers a command: latency histograms of the parse, execute, save
+ * and render phases of each command type, the number of failures by exception type, and the size of the task
+ * list and of the undo history after the last command.
+ *
+ * Metrics are collected only when Corgi is started with {@code -Dcorgi.metrics=true}. Every hook checks the
+ * constant {@link #ENABLED} first, so when metrics are off the JIT compiles the hooks away and they cost nothing.
+ * When they are on, they are published as the MXBean {@code corgi:type=CommandMetrics} and by the
+ * {@code metrics} command.
+ *
+ * A command is timed on the thread that answers it, so several chatbots can be measured at once, as in the server.
+ */
+public final class CommandMetrics implements CommandMetricsMXBean {
+    /** Whether metrics are collected. */
+    public static final boolean ENABLED = Boolean.getBoolean("corgi.metrics");
+
+    private static final String OBJECT_NAME = "corgi:type=CommandMetrics";
+    private static final String OTHER_COMMAND = "other";
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final CommandMetrics instance = ENABLED ? register(new CommandMetrics()) : null;
+    private static final ThreadLocal<CommandTiming> timing = ThreadLocal.withInitial(CommandTiming::new);
+
+    /** The histograms of each phase by command name, with {@code other} for input that is not a command. */
+    private final Map<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+    private final LongAdder commandCount = new LongAdder();
+    private volatile int taskCount;
+    private volatile int historyDepth;
+
+    CommandMetrics() {
+    }
+
+    private static CommandMetrics register(CommandMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Command metrics could not be published over JMX: " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics collected by this process.
+     *
+     * @return The metrics, or null if metrics are not enabled.
+     */
+    public static CommandMetrics getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts timing a command on the current thread. Call it before parsing the input.
+     *
+     * @param input The input typed by the user.
+     * @param registry The registry the input is parsed with, which names the command.
+     */
+    public static void startCommand(String input, CommandRegistry registry) {
+        if (!ENABLED) {
+            return;
+        }
+        instance.commandCount.increment();
+        timing.get().start(instance.getRow(getCommandName(input, registry)), System.nanoTime());
+    }
+
+    /**
+     * Records that the command being timed on the current thread has been parsed.
+     */
+    public static void endParse() {
+        if (!ENABLED) {
+            return;
+        }
+        CommandTiming current = timing.get();
+        long now = System.nanoTime();
+        current.row[Phase.PARSE.ordinal()].record(now - current.phaseStart);
+        current.phaseStart = now;
+    }
+
+    /**
+     * Records that the command being timed on the current thread has run, and the state it left behind.
+     * The time spent saving and rendering while it ran is recorded in those phases, not in the execute phase.
+     *
+     * @param taskCount The number of tasks in the list after the command.
+     * @param historyDepth The number of changes that can be undone after the command.
+     */
+    public static void endExecute(int taskCount, int historyDepth) {
+        if (!ENABLED) {
+            return;
+        }
+        CommandTiming current = timing.get();
+        LatencyHistogram[] row = current.row;
+        long elapsed = System.nanoTime() - current.phaseStart;
+
+        row[Phase.EXECUTE.ordinal()].record(elapsed - current.saveNanos - current.renderNanos);
+        if (current.hasSaved) {
+            row[Phase.SAVE.ordinal()].record(current.saveNanos);
+        }
+        row[Phase.RENDER.ordinal()].record(current.renderNanos);
+        current.isActive = false;
+
+        instance.taskCount = taskCount;
+        instance.historyDepth = historyDepth;
+    }
+
+    /**
+     * Records that the command being timed on the current thread failed.
+     *
+     * @param e The exception it failed with.
+     */
+    public static void recordError(Exception e) {
+        if (!ENABLED) {
+            return;
+        }
+        timing.get().isActive = false;
+        instance.errorCounts.computeIfAbsent(e.getClass().getSimpleName(), name -> new LongAdder()).increment();
+    }
+
+    /**
+     * Starts timing a save or a render.
+     *
+     * @return The start time to pass to {@link #endSave} or {@link #endRender}, or 0 if metrics are not enabled.
+     */
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Adds the time since the given start to the save phase of the command being timed on the current thread.
+     * Saves outside of a command are not recorded.
+     *
+     * @param start The time returned by {@link #startTimer}.
+     */
+    public static void endSave(long start) {
+        if (!ENABLED) {
+            return;
+        }
+        CommandTiming current = timing.get();
+        if (current.isActive) {
+            current.saveNanos += System.nanoTime() - start;
+            current.hasSaved = true;
+        }
+    }
+
+    /**
+     * Adds the time since the given start to the render phase of the command being timed on the current thread.
+     * Rendering outside of a command is not recorded.
+     *
+     * @param start The time returned by {@link #startTimer}.
+     */
+    public static void endRender(long start) {
+        if (!ENABLED) {
+            return;
+        }
+        CommandTiming current = timing.get();
+        if (current.isActive) {
+            current.renderNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Returns the command word of the input, i.e. its first word.
+     *
+     * @param input The input typed by the user.
+     * @return The command word, in lower case.
+     */
+    public static String getCommandWord(String input) {
+        String trimmed = input.trim();
+        int end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the name under which the input is measured: the name of its command in the registry,
+     * or {@code other} if the registry has no such command.
+     */
+    private static String getCommandName(String input, CommandRegistry registry) {
+        CommandDefinition definition = registry.lookup(getCommandWord(input));
+        return definition == null ? OTHER_COMMAND : definition.getName();
+    }
+
+    /**
+     * Returns the histograms of the phases of the given command, creating them on its first use.
+     */
+    private LatencyHistogram[] getRow(String command) {
+        LatencyHistogram[] row = this.histograms.get(command);
+        if (row != null) {
+            return row;
+        }
+        return this.histograms.computeIfAbsent(command, name -> {
+            LatencyHistogram[] newRow = new LatencyHistogram[PHASES.length];
+            for (int i = 0; i < newRow.length; i++) {
+                newRow[i] = new LatencyHistogram();
+            }
+            return newRow;
+        });
+    }
+
+    @Override
+    public long getCommandCount() {
+        return this.commandCount.sum();
+    }
+
+    @Override
+    public int getTaskCount() {
+        return this.taskCount;
+    }
+
+    @Override
+    public int getHistoryDepth() {
+        return this.historyDepth;
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : this.errorCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public List<LatencySummary> getLatencies() {
+        List<LatencySummary> latencies = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram[]> row : new TreeMap<>(this.histograms).entrySet()) {
+            for (Phase phase : PHASES) {
+                LatencyHistogram histogram = row.getValue()[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    latencies.add(new LatencySummary(row.getKey(), phase, histogram));
+                }
+            }
+        }
+        return Collections.unmodifiableList(latencies);
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Commands: ").append(getCommandCount()).append('\n')
+                .append("Tasks: ").append(getTaskCount()).append('\n')
+                .append("Undo history: ").append(getHistoryDepth()).append('\n');
+
+        List<LatencySummary> latencies = getLatencies();
+        if (!latencies.isEmpty()) {
+            report.append("\nLatency (us): count / mean / p50 / p99 / max\n");
+            for (LatencySummary latency : latencies) {
+                report.append(String.format("%s %s: %d / %.1f / %.1f / %.1f / %.1f\n", latency.getCommand(),
+                        latency.getPhase(), latency.getCount(), latency.getMeanMicros(), latency.getP50Micros(),
+                        latency.getP99Micros(), latency.getMaxMicros()));
+            }
+        }
+
+        Map<String, Long> errors = getErrorCounts();
+        if (!errors.isEmpty()) {
+            report.append("\nErrors:\n");
+            for (Map.Entry<String, Long> entry : errors.entrySet()) {
+                report.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+            }
+        }
+
+        return report.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram[] row : this.histograms.values()) {
+            for (LatencyHistogram histogram : row) {
+                histogram.reset();
+            }
+        }
+        this.errorCounts.clear();
+        this.commandCount.reset();
+    }
+
+    /**
+     * The timing of the command being answered on a thread, reused for every command on that thread.
+     */
+    private static final class CommandTiming {
+        private LatencyHistogram[] row;
+        private long phaseStart;
+        private long saveNanos;
+        private long renderNanos;
+        private boolean hasSaved;
+        private boolean isActive;
+
+        void start(LatencyHistogram[] row, long now) {
+            this.row = row;
+            this.phaseStart = now;
+            this.saveNanos = 0;
+            this.renderNanos = 0;
+            this.hasSaved = false;
+            this.isActive = true;
+        }
+    }
+}
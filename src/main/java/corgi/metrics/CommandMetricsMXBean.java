@@ -0,0 +1,56 @@
+package corgi.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The management interface of {@link CommandMetrics}, registered as {@code corgi:type=CommandMetrics}.
+ */
+public interface CommandMetricsMXBean {
+    /**
+     * Returns the number of commands received, including invalid ones.
+     *
+     * @return The number of commands.
+     */
+    long getCommandCount();
+
+    /**
+     * Returns the number of tasks in the list after the last successful command.
+     *
+     * @return The number of tasks.
+     */
+    int getTaskCount();
+
+    /**
+     * Returns the number of changes that can be undone after the last successful command.
+     *
+     * @return The depth of the undo history.
+     */
+    int getHistoryDepth();
+
+    /**
+     * Returns how many commands failed, by the simple name of the exception.
+     *
+     * @return The number of failures of each exception type.
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Returns the latency of each phase of each command that has been received.
+     *
+     * @return One summary per command and phase.
+     */
+    List<LatencySummary> getLatencies();
+
+    /**
+     * Returns the metrics as text, as shown by the {@code metrics} command.
+     *
+     * @return The report.
+     */
+    String getReport();
+
+    /**
+     * Forgets every latency and error recorded so far.
+     */
+    void reset();
+}
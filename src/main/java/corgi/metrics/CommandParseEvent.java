@@ -0,0 +1,43 @@
+package corgi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for parsing the input typed by the user into a command.
+ * Disabled unless a recording enables {@code corgi.CommandParse}.
+ */
+@Name("corgi.CommandParse")
+@Label("Command Parse")
+@Category({"Corgi", "Commands"})
+@Description("Parsing the input typed by the user into a command")
+@Enabled(false)
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+    @Label("Command")
+    @Description("The command word of the input")
+    private String command;
+
+    @Label("Valid")
+    @Description("Whether the input was a valid command")
+    private boolean isValid;
+
+    /**
+     * Ends the event and commits it if it is enabled. The fields are only filled in for committed events.
+     *
+     * @param input The input typed by the user.
+     * @param isValid Whether the input was parsed into a command.
+     */
+    public void finish(String input, boolean isValid) {
+        if (shouldCommit()) {
+            this.command = CommandMetrics.getCommandWord(input);
+            this.isValid = isValid;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package corgi.metrics;
+
+/**
+ * The latency of one phase of one command, in microseconds.
+ */
+public final class LatencySummary {
+    private final String command;
+    private final String phase;
+    private final long count;
+    private final double meanMicros;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double p999Micros;
+    private final double maxMicros;
+
+    /**
+     * Summarizes a histogram.
+     *
+     * @param command The command name.
+     * @param phase The phase.
+     * @param histogram The latencies of the phase.
+     */
+    LatencySummary(String command, Phase phase, LatencyHistogram histogram) {
+        this.command = command;
+        this.phase = phase.getName();
+        this.count = histogram.getCount();
+        this.meanMicros = this.count == 0 ? 0 : toMicros(histogram.getTotalNanos()) / this.count;
+        this.p50Micros = toMicros(histogram.getPercentileNanos(0.50));
+        this.p99Micros = toMicros(histogram.getPercentileNanos(0.99));
+        this.p999Micros = toMicros(histogram.getPercentileNanos(0.999));
+        this.maxMicros = toMicros(histogram.getMaxNanos());
+    }
+
+    private static double toMicros(long nanos) {
+        return nanos / 1e3;
+    }
+
+    public String getCommand() {
+        return this.command;
+    }
+
+    public String getPhase() {
+        return this.phase;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMeanMicros() {
+        return this.meanMicros;
+    }
+
+    public double getP50Micros() {
+        return this.p50Micros;
+    }
+
+    public double getP99Micros() {
+        return this.p99Micros;
+    }
+
+    public double getP999Micros() {
+        return this.p999Micros;
+    }
+
+    public double getMaxMicros() {
+        return this.maxMicros;
+    }
+}
@@ -0,0 +1,21 @@
+package corgi.metrics;
+
+import java.util.Locale;
+
+/**
+ * The phases of answering a command, timed separately by {@link CommandMetrics}.
+ */
+public enum Phase {
+    /** Turning the input into a command. */
+    PARSE,
+    /** Running the command, apart from saving and rendering. */
+    EXECUTE,
+    /** Writing the task list to the data file. */
+    SAVE,
+    /** Formatting tasks and the reply as text. */
+    RENDER;
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,49 @@
+package corgi.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for reading a list from its data file.
+ * Disabled unless a recording enables {@code corgi.StorageLoad}.
+ */
+@Name("corgi.StorageLoad")
+@Label("Storage Load")
+@Category({"Corgi", "Storage"})
+@Description("Reading a list from its data file")
+@Enabled(false)
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+    @Label("Path")
+    @Description("The path of the data file")
+    private String path;
+
+    @Label("Lines")
+    @Description("The number of lines read")
+    private int lines;
+
+    @Label("Skipped Lines")
+    @Description("The number of lines skipped because they could not be parsed")
+    private int skippedLines;
+
+    /**
+     * Ends the event and commits it if it is enabled. The fields are only filled in for committed events.
+     *
+     * @param filePath The path of the data file that was read.
+     * @param lines The number of lines read.
+     * @param skippedLines The number of lines that could not be parsed.
+     */
+    public void finish(String filePath, int lines, int skippedLines) {
+        if (shouldCommit()) {
+            this.path = filePath;
+            this.lines = lines;
+            this.skippedLines = skippedLines;
+            commit();
+        }
+    }
+}
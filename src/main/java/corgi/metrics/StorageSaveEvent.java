@@ -0,0 +1,46 @@
+package corgi.metrics;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for writing a list to its data file.
+ * Disabled unless a recording enables {@code corgi.StorageSave}.
+ */
+@Name("corgi.StorageSave")
+@Label("Storage Save")
+@Category({"Corgi", "Storage"})
+@Description("Writing a list to its data file")
+@Enabled(false)
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+    @Label("Path")
+    @Description("The path of the data file")
+    private String path;
+
+    @Label("Bytes Written")
+    @Description("The size of the data file after saving")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Ends the event and commits it if it is enabled. The fields are only filled in for committed events.
+     *
+     * @param filePath The path of the data file that was written.
+     */
+    public void finish(String filePath) {
+        if (shouldCommit()) {
+            this.path = filePath;
+            this.bytesWritten = new File(filePath).length();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,598 @@
+package corgi.parsers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import corgi.commands.AddTaskCommand;
+import corgi.commands.Command;
+import corgi.commands.DeleteTaskCommand;
+import corgi.commands.DeleteTasksCommand;
+import corgi.commands.ExitCommand;
+import corgi.commands.FindTasksContainKeywordCommand;
+import corgi.commands.FindTasksOnDateCommand;
+import corgi.commands.FuzzyFindTasksCommand;
+import corgi.commands.ListTasksCommand;
+import corgi.commands.ListUpcomingTasksCommand;
+import corgi.commands.MarkOccurrenceCommand;
+import corgi.commands.MarkTaskCommand;
+import corgi.commands.MarkTasksCommand;
+import corgi.commands.QueryTasksCommand;
+import corgi.commands.ShowFootprintCommand;
+import corgi.commands.ShowMetricsCommand;
+import corgi.commands.UndoCommand;
+import corgi.query.TaskQuery;
+import corgi.tasks.Deadline;
+import corgi.tasks.Event;
+import corgi.tasks.IndexRanges;
+import corgi.tasks.RecurrenceRule;
+import corgi.tasks.Recurring;
+import corgi.tasks.Task;
+import corgi.tasks.ToDo;
+import corgi.tasks.UpcomingIndex;
+
+/**
+ * Factories for the commands built into Corgi, registered in the default {@link CommandRegistry}.
+ */
+final class BuiltInCommands {
+    private static final CommandValidator VALIDATOR = new CommandValidator();
+    private static final QueryParser QUERY_PARSER = new QueryParser();
+    private static final Set<String> UPCOMING_REQUIRED_ARGUMENTS = Collections.singleton("/count");
+    private static final Set<String> UPCOMING_OPTIONAL_ARGUMENTS = Collections.singleton("/from");
+    private static final Set<String> FIND_REQUIRED_ARGUMENTS = Collections.singleton("/target");
+    private static final Set<String> FIND_FLAGS = Collections.singleton("/ignorecase");
+    private static final Set<String> FUZZY_REQUIRED_ARGUMENTS = Collections.singleton("/target");
+    private static final Set<String> FUZZY_OPTIONAL_ARGUMENTS = Collections.singleton("/top");
+    private static final Set<String> MARK_REQUIRED_ARGUMENTS = Collections.singleton("/target");
+    private static final Set<String> MARK_OPTIONAL_ARGUMENTS = Collections.singleton("/on");
+    private static final Set<String> RECUR_REQUIRED_ARGUMENTS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("/desc", "/every", "/from")));
+    private static final Set<String> RECUR_OPTIONAL_ARGUMENTS = Collections.singleton("/until");
+
+    private BuiltInCommands() {
+    }
+
+    /**
+     * Registers every built-in command in the given registry.
+     *
+     * @param registry The registry to register the commands in.
+     */
+    static void registerAll(CommandRegistry registry) {
+        registry.register("todo", "todo /desc [task]",
+                arguments("/desc"), BuiltInCommands::newAddTodoCommand);
+        registry.register("deadline", "deadline /desc [task] /by [yyyy-mm-dd]",
+                arguments("/desc", "/by"), BuiltInCommands::newAddDeadlineCommand);
+        registry.register("event", "event /desc [task] /from [yyyy-mm-dd] /to [yyyy-mm-dd]",
+                arguments("/desc", "/from", "/to"), BuiltInCommands::newAddEventCommand);
+        registry.register("recur",
+                "recur /desc [task] /every [day|week|month] /from [yyyy-mm-dd] [/until [yyyy-mm-dd]]",
+                arguments("/desc", "/every", "/from", "/until"), BuiltInCommands::newAddRecurringCommand);
+        registry.register("mark", "mark /target [task no.] [/on [yyyy-mm-dd]]",
+                arguments("/target", "/on"), BuiltInCommands::newMarkCommand);
+        registry.register("unmark", "unmark /target [task no.] [/on [yyyy-mm-dd]]",
+                arguments("/target", "/on"), BuiltInCommands::newUnMarkCommand);
+        registry.register("delete", "delete /target [task no.]",
+                arguments("/target"), BuiltInCommands::newDeleteCommand);
+        registry.register("date", "date /target [yyyy-mm-dd]",
+                arguments("/target"), BuiltInCommands::newDateCommand);
+        registry.register("upcoming", "upcoming /count [N] [/from [yyyy-mm-dd]]",
+                arguments("/count", "/from"), BuiltInCommands::newUpcomingCommand);
+        registry.register("find", "find /target [keyword] [/ignorecase]",
+                arguments("/target", "/ignorecase"), BuiltInCommands::newFindCommand);
+        registry.register("fuzzy", "fuzzy /target [keyword] [/top [k]]",
+                arguments("/target", "/top"), BuiltInCommands::newFuzzyCommand);
+        registry.register("query", "query /where [conditions]",
+                arguments("/where"), BuiltInCommands::newQueryCommand);
+        registry.register("bye", "bye", arguments(), BuiltInCommands::newExitCommand);
+        registry.register("list", "list", arguments(), BuiltInCommands::newListCommand);
+        registry.register("metrics", "metrics", arguments(), BuiltInCommands::newMetricsCommand);
+        registry.register("footprint", "footprint", arguments(), BuiltInCommands::newFootprintCommand);
+        registry.register("undo", "undo", arguments(), BuiltInCommands::newUndoCommand);
+    }
+
+    private static Set<String> arguments(String... arguments) {
+        return new HashSet<>(Arrays.asList(arguments));
+    }
+
+    private static Command newUndoCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        if (!tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is needed!" + "\n\n"
+                    + definition.getCommandFormat());
+        }
+        return new UndoCommand();
+    }
+
+    private static Command newExitCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        if (!tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is needed!" + "\n\n"
+                    + definition.getCommandFormat());
+        }
+        return new ExitCommand();
+    }
+
+    private static Command newListCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        if (!tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is needed!" + "\n\n"
+                    + definition.getCommandFormat());
+        }
+        return new ListTasksCommand();
+    }
+
+    private static Command newMetricsCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        if (!tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is needed!" + "\n\n"
+                    + definition.getCommandFormat());
+        }
+        return new ShowMetricsCommand();
+    }
+
+    private static Command newFootprintCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        if (!tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is needed!" + "\n\n"
+                    + definition.getCommandFormat());
+        }
+        return new ShowFootprintCommand();
+    }
+
+    private static Command newMarkCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and optional ones at most once
+        VALIDATOR.validateArguments(tokens, MARK_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, MARK_OPTIONAL_ARGUMENTS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String targetTaskNumber = labelToValue.get("/target");
+        String dateStr = labelToValue.get("/on");
+
+        IndexRanges indexes = parseTaskNumbers(targetTaskNumber, commandFormat);
+        if (dateStr != null) {
+            return newMarkOccurrenceCommand(indexes, dateStr, true, commandFormat);
+        }
+        return indexes.isSingleIndex()
+                ? new MarkTaskCommand(indexes.getFirst(), true)
+                : new MarkTasksCommand(indexes, true);
+    }
+
+    private static Command newUnMarkCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and optional ones at most once
+        VALIDATOR.validateArguments(tokens, MARK_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, MARK_OPTIONAL_ARGUMENTS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String targetTaskNumber = labelToValue.get("/target");
+        String dateStr = labelToValue.get("/on");
+
+        IndexRanges indexes = parseTaskNumbers(targetTaskNumber, commandFormat);
+        if (dateStr != null) {
+            return newMarkOccurrenceCommand(indexes, dateStr, false, commandFormat);
+        }
+        return indexes.isSingleIndex()
+                ? new MarkTaskCommand(indexes.getFirst(), false)
+                : new MarkTasksCommand(indexes, false);
+    }
+
+    private static Command newMarkOccurrenceCommand(IndexRanges indexes, String dateStr, boolean isDone,
+            String commandFormat) throws InvalidCommandFormatException {
+        if (!indexes.isSingleIndex()) {
+            throw new InvalidCommandFormatException("Please provide a single task number with /on!" + "\n\n"
+                    + commandFormat);
+        }
+        LocalDate date = parseDate(dateStr, "Invalid date format!" + "\n\n" + commandFormat);
+        return new MarkOccurrenceCommand(indexes.getFirst(), date, isDone);
+    }
+
+    private static Command newDeleteCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String targetTaskNumber = labelToValue.get("/target");
+
+        IndexRanges indexes = parseTaskNumbers(targetTaskNumber, commandFormat);
+        return indexes.isSingleIndex()
+                ? new DeleteTaskCommand(indexes.getFirst())
+                : new DeleteTasksCommand(indexes);
+    }
+
+    private static Command newDateCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String targetDate = labelToValue.get("/target");
+
+        LocalDate target = parseDate(targetDate, "Invalid date format!");
+
+        assert target != null : "Target date cannot be null.";
+
+        return new FindTasksOnDateCommand(target);
+    }
+
+    private static Command newUpcomingCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and optional ones at most once
+        VALIDATOR.validateArguments(tokens, UPCOMING_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, UPCOMING_OPTIONAL_ARGUMENTS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String countStr = labelToValue.get("/count");
+        String fromStr = labelToValue.get("/from");
+
+        String countErrorMsg = "Please provide a valid number of tasks!" + "\n\n" + commandFormat;
+        int count = parseNumber(countStr, countErrorMsg);
+        if (count <= 0) {
+            throw new InvalidCommandFormatException(countErrorMsg);
+        }
+        if (count > UpcomingIndex.MAX_COUNT) {
+            throw new InvalidCommandFormatException("Please ask for at most " + UpcomingIndex.MAX_COUNT
+                    + " upcoming tasks!" + "\n\n" + commandFormat);
+        }
+
+        LocalDate from = fromStr == null
+                ? null
+                : parseDate(fromStr, "Invalid date format!" + "\n\n" + commandFormat);
+
+        return new ListUpcomingTasksCommand(count, from);
+    }
+
+    private static Command newFindCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and flags at most once
+        VALIDATOR.validateArguments(tokens, FIND_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, FIND_FLAGS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(FIND_REQUIRED_ARGUMENTS, FIND_FLAGS);
+        String targetKeyword = labelToValue.get("/target");
+        boolean isIgnoringCase = labelToValue.containsKey("/ignorecase");
+
+        return new FindTasksContainKeywordCommand(targetKeyword, isIgnoringCase);
+    }
+
+    private static Command newFuzzyCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and optional ones at most once
+        VALIDATOR.validateArguments(tokens, FUZZY_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, FUZZY_OPTIONAL_ARGUMENTS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String targetKeyword = labelToValue.get("/target");
+        String limitStr = labelToValue.get("/top");
+
+        int limit = FuzzyFindTasksCommand.DEFAULT_LIMIT;
+        if (limitStr != null) {
+            String limitErrorMsg = "Please provide a valid number of tasks!" + "\n\n" + commandFormat;
+            limit = parseNumber(limitStr, limitErrorMsg);
+            if (limit <= 0) {
+                throw new InvalidCommandFormatException(limitErrorMsg);
+            }
+        }
+
+        return new FuzzyFindTasksCommand(targetKeyword, limit);
+    }
+
+    private static Command newQueryCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String conditions = labelToValue.get("/where");
+
+        TaskQuery query;
+        try {
+            query = QUERY_PARSER.parse(conditions);
+        } catch (ParsingException e) {
+            throw new InvalidCommandFormatException(e.getMessage() + "\n\n" + commandFormat);
+        }
+
+        assert query != null : "Query cannot be null.";
+
+        return new QueryTasksCommand(query);
+    }
+
+    private static Command newAddTodoCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String todoDesc = labelToValue.get("/desc");
+
+        Task target = new ToDo(todoDesc);
+
+        assert target != null : "New Todo task cannot be null.";
+
+        return new AddTaskCommand(target);
+    }
+
+    private static Command newAddDeadlineCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String deadlineDesc = labelToValue.get("/desc");
+        String deadlineStr = labelToValue.get("/by");
+
+        LocalDate by = parseDate(deadlineStr, "Invalid date format!" + "\n\n" + commandFormat);
+
+        assert by != null : "Date cannot be null.";
+
+        Task target = new Deadline(deadlineDesc, by);
+
+        assert target != null : "New Deadline task cannot be null.";
+
+        return new AddTaskCommand(target);
+    }
+
+    private static Command newAddEventCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all arguments are given
+        VALIDATOR.validateArguments(tokens, arguments);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String eventDesc = labelToValue.get("/desc");
+        String startDateStr = labelToValue.get("/from");
+        String endDateStr = labelToValue.get("/to");
+
+        String dateErrorMsg = "Invalid date format!" + "\n\n" + commandFormat;
+        LocalDate from = parseDate(startDateStr, dateErrorMsg);
+        LocalDate to = parseDate(endDateStr, dateErrorMsg);
+
+        // Validate that start date is before end date
+        if (!from.isBefore(to)) {
+            throw new InvalidCommandFormatException("The start date should be before the end date!");
+        }
+
+        assert from != null : "Date cannot be null.";
+        assert to != null : "Date cannot be null.";
+
+        Task target = new Event(eventDesc, from, to);
+
+        assert target != null : "New Event task cannot be null.";
+
+        return new AddTaskCommand(target);
+    }
+
+    private static Command newAddRecurringCommand(CommandTokens tokens, CommandDefinition definition)
+            throws InvalidCommandFormatException {
+        String commandFormat = definition.getCommandFormat();
+        Set<String> arguments = definition.getArgumentsSet();
+
+        if (tokens.hasNoArgument()) {
+            throw new InvalidCommandFormatException("No argument is provided!" + "\n\n"
+                    + commandFormat);
+        }
+
+        // Validate whether all required arguments are given, and optional ones at most once
+        VALIDATOR.validateArguments(tokens, RECUR_REQUIRED_ARGUMENTS);
+        VALIDATOR.validateOptionalArguments(tokens, RECUR_OPTIONAL_ARGUMENTS);
+
+        // Parse arguments
+        Map<String, String> labelToValue = tokens.getArgumentValues(arguments);
+        String recurringDesc = labelToValue.get("/desc");
+        String unit = labelToValue.get("/every");
+        String startDateStr = labelToValue.get("/from");
+        String endDateStr = labelToValue.get("/until");
+
+        RecurrenceRule.Frequency frequency = RecurrenceRule.Frequency.ofUnit(unit);
+        if (frequency == null) {
+            throw new InvalidCommandFormatException("Please repeat every day, week or month!" + "\n\n"
+                    + commandFormat);
+        }
+
+        String dateErrorMsg = "Invalid date format!" + "\n\n" + commandFormat;
+        LocalDate from = parseDate(startDateStr, dateErrorMsg);
+        LocalDate until = endDateStr == null ? null : parseDate(endDateStr, dateErrorMsg);
+
+        // Validate that the task does not end before it starts
+        if (until != null && until.isBefore(from)) {
+            throw new InvalidCommandFormatException("The end date should not be before the start date!");
+        }
+
+        Task target = new Recurring(recurringDesc, new RecurrenceRule(frequency, from, until));
+
+        return new AddTaskCommand(target);
+    }
+
+    /**
+     * Parses the task numbers given by the user: a single task number, or a comma-separated list of
+     * task numbers and ranges of task numbers such as "3-250,400".
+     * A single task number is parsed as before, so that its errors are still reported when the command runs.
+     */
+    private static IndexRanges parseTaskNumbers(String taskNumbers, String commandFormat)
+            throws InvalidCommandFormatException {
+        boolean isList = taskNumbers.indexOf(',') >= 0 || taskNumbers.indexOf('-', 1) >= 0;
+
+        if (!isList) {
+            int index = parseTaskNumber(taskNumbers, commandFormat) - 1;
+            List<int[]> ranges = new ArrayList<>();
+            ranges.add(new int[] {index, index});
+            return new IndexRanges(ranges);
+        }
+
+        String errorMsg = "Please provide valid task numbers, e.g. 3-250,400!" + "\n\n" + commandFormat;
+        List<int[]> ranges = new ArrayList<>();
+
+        for (String item : taskNumbers.split(",", -1)) {
+            int separator = item.indexOf('-');
+            String first = separator < 0 ? item : item.substring(0, separator);
+            String last = separator < 0 ? item : item.substring(separator + 1);
+
+            if (!isPositiveNumber(first) || !isPositiveNumber(last)) {
+                throw new InvalidCommandFormatException(errorMsg);
+            }
+
+            int start = parseNumber(first, errorMsg);
+            int end = parseNumber(last, errorMsg);
+            if (start < 1 || start > end) {
+                throw new InvalidCommandFormatException(errorMsg);
+            }
+
+            ranges.add(new int[] {start - 1, end - 1});
+        }
+
+        return new IndexRanges(ranges);
+    }
+
+    private static boolean isPositiveNumber(String number) {
+        if (number.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < number.length(); i++) {
+            if (!Character.isDigit(number.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a task number given by the user.
+     */
+    private static int parseTaskNumber(String taskNumber, String commandFormat)
+            throws InvalidCommandFormatException {
+        return parseNumber(taskNumber, "Please provide a valid task number!" + "\n\n" + commandFormat);
+    }
+
+    /**
+     * Parses a number given by the user.
+     * Input that cannot be a number is rejected before reaching Integer.parseInt,
+     * so that typos do not pay for a NumberFormatException and its stack trace.
+     */
+    private static int parseNumber(String number, String errorMsg) throws InvalidCommandFormatException {
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (!Character.isDigit(c) && c != '+' && c != '-') {
+                throw new InvalidCommandFormatException(errorMsg);
+            }
+        }
+
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandFormatException(errorMsg);
+        }
+    }
+
+    private static LocalDate parseDate(String date, String errorMsg) throws InvalidCommandFormatException {
+        LocalDate parsed = Parser.parseDate(date);
+
+        if (parsed == null) {
+            throw new InvalidCommandFormatException(errorMsg);
+        }
+
+        return parsed;
+    }
+}
@@ -0,0 +1,81 @@
+package corgi.parsers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import corgi.commands.Command;
+
+/**
+ * A command registered in a {@link CommandRegistry}: its name, its argument schema and its factory.
+ */
+public final class CommandDefinition {
+    private final String name;
+    private final String usage;
+    private final Set<String> arguments;
+    private final CommandFactory factory;
+    private final PrefixTrie argumentTrie;
+
+    /**
+     * Constructs a new command definition.
+     *
+     * @param name The lower-case name of the command.
+     * @param usage The format of the command, e.g. {@code todo /desc [task]}.
+     * @param arguments The arguments that the command expects.
+     * @param factory The factory that builds the command.
+     */
+    CommandDefinition(String name, String usage, Set<String> arguments, CommandFactory factory) {
+        this.name = name;
+        this.usage = usage;
+        this.arguments = Collections.unmodifiableSet(arguments);
+        this.factory = factory;
+        this.argumentTrie = new PrefixTrie();
+
+        for (String argument : arguments) {
+            this.argumentTrie.insert(argument);
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Retrieves the command format string for this command.
+     *
+     * @return The command format string.
+     */
+    public String getCommandFormat() {
+        return "Format: \n" + this.usage;
+    }
+
+    /**
+     * Retrieves the arguments set for this command.
+     *
+     * @return The set of arguments.
+     */
+    public Set<String> getArgumentsSet() {
+        return this.arguments;
+    }
+
+    /**
+     * Builds the command described by the given input.
+     *
+     * @param tokens The words of the full user input.
+     * @return The command to execute.
+     * @throws InvalidCommandFormatException If the arguments of the command are invalid.
+     */
+    public Command create(CommandTokens tokens) throws InvalidCommandFormatException {
+        return this.factory.create(tokens, this);
+    }
+
+    /**
+     * Returns the arguments of this command that start with the given prefix, in alphabetical order.
+     *
+     * @param prefix The prefix typed so far.
+     * @return The matching arguments.
+     */
+    List<String> completeArgument(String prefix) {
+        return this.argumentTrie.startingWith(prefix);
+    }
+}
@@ -0,0 +1,19 @@
+package corgi.parsers;
+
+import corgi.commands.Command;
+
+/**
+ * Creates a command from the words of the user input.
+ */
+@FunctionalInterface
+public interface CommandFactory {
+    /**
+     * Builds the command described by the given input.
+     *
+     * @param tokens The words of the full user input, including the command word.
+     * @param definition The definition the command was registered with.
+     * @return The command to execute.
+     * @throws InvalidCommandFormatException If the arguments of the command are invalid.
+     */
+    Command create(CommandTokens tokens, CommandDefinition definition) throws InvalidCommandFormatException;
+}
@@ -0,0 +1,149 @@
+package corgi.parsers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of the commands understood by Corgi.
+ *
+ * New commands are added by registering a name, an argument schema and a factory,
+ * without touching the parser. Command words are matched case-insensitively with a single hash lookup,
+ * and a prefix trie of the names and arguments offers completions for partially typed input.
+ * Lookups take no lock, so the shared registry can be used by many threads at once.
+ */
+public class CommandRegistry {
+    private final Map<String, CommandDefinition> definitions = new ConcurrentHashMap<>();
+    private final PrefixTrie commandTrie = new PrefixTrie();
+
+    /**
+     * Returns the shared registry containing the built-in commands.
+     *
+     * @return The default registry.
+     */
+    public static CommandRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new registry containing the built-in commands, to which more commands can be added.
+     *
+     * @return A new registry with the built-in commands.
+     */
+    public static CommandRegistry withBuiltInCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        BuiltInCommands.registerAll(registry);
+        return registry;
+    }
+
+    /**
+     * Registers a new command.
+     *
+     * @param name The name of the command, i.e. the first word the user types.
+     * @param usage The format of the command, e.g. {@code todo /desc [task]}.
+     * @param arguments The arguments that the command expects.
+     * @param factory The factory that builds the command from the user input.
+     * @return The definition of the registered command.
+     * @throws IllegalArgumentException If the name is not a single word or is already registered.
+     */
+    public synchronized CommandDefinition register(
+            String name, String usage, Set<String> arguments, CommandFactory factory) {
+        String key = name.toLowerCase(Locale.ROOT);
+
+        if (key.isEmpty() || key.indexOf(' ') >= 0) {
+            throw new IllegalArgumentException("Command name must be a single word: \"" + name + "\"");
+        }
+        if (this.definitions.containsKey(key)) {
+            throw new IllegalArgumentException("Command is already registered: \"" + name + "\"");
+        }
+
+        CommandDefinition definition = new CommandDefinition(key, usage, arguments, factory);
+        this.definitions.put(key, definition);
+        this.commandTrie.insert(key);
+
+        return definition;
+    }
+
+    /**
+     * Finds the command with the given name, ignoring case.
+     *
+     * @param commandWord The command word typed by the user.
+     * @return The definition of the command, or null if there is no such command.
+     */
+    public CommandDefinition lookup(String commandWord) {
+        CommandDefinition definition = this.definitions.get(commandWord);
+
+        if (definition == null && !isLowerCase(commandWord)) {
+            definition = this.definitions.get(commandWord.toLowerCase(Locale.ROOT));
+        }
+
+        return definition;
+    }
+
+    private static boolean isLowerCase(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isUpperCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the registered commands.
+     *
+     * @return The command definitions.
+     */
+    public Collection<CommandDefinition> getDefinitions() {
+        return Collections.unmodifiableCollection(new ArrayList<>(this.definitions.values()));
+    }
+
+    /**
+     * Suggests completions for partially typed input.
+     * While the command word is being typed, the matching command names are suggested.
+     * Afterwards, the arguments of the command that have not been given yet are suggested.
+     *
+     * @param input The input typed so far.
+     * @return The completed inputs, in alphabetical order of the completed word.
+     */
+    public synchronized List<String> complete(String input) {
+        List<String> completions = new ArrayList<>();
+        int firstSpace = input.indexOf(' ');
+
+        if (firstSpace < 0) {
+            for (String name : this.commandTrie.startingWith(input.toLowerCase(Locale.ROOT))) {
+                boolean hasArguments = !this.definitions.get(name).getArgumentsSet().isEmpty();
+                completions.add(hasArguments ? name + " " : name);
+            }
+            return completions;
+        }
+
+        CommandDefinition definition = this.lookup(input.substring(0, firstSpace));
+
+        if (definition == null) {
+            return completions;
+        }
+
+        int lastSpace = input.lastIndexOf(' ');
+        String typed = input.substring(0, lastSpace + 1);
+        String partialWord = input.substring(lastSpace + 1);
+        CommandTokens tokens = CommandTokens.tokenize(typed);
+
+        for (String argument : definition.completeArgument(partialWord)) {
+            if (tokens.count(argument) == 0) {
+                completions.add(typed + argument + " ");
+            }
+        }
+
+        return completions;
+    }
+
+    private static final class DefaultHolder {
+        private static final CommandRegistry INSTANCE = withBuiltInCommands();
+    }
+}
@@ -0,0 +1,218 @@
+package corgi.parsers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The words of a command string, found in a single pass over the string.
+ *
+ * Words are separated by single spaces, the same way as {@code command.split(" ")},
+ * and are kept as offsets into the original string, so that validation and value extraction
+ * can read them without splitting the command again or creating intermediate strings.
+ */
+public final class CommandTokens {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String command;
+    private int[] starts;
+    private int[] ends;
+    private int size;
+
+    private CommandTokens(String command) {
+        this.command = command;
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Splits the given command into words.
+     *
+     * @param command The full command string.
+     * @return The words of the command.
+     */
+    public static CommandTokens tokenize(String command) {
+        CommandTokens tokens = new CommandTokens(command);
+
+        int start = 0;
+        int nonEmptySize = 0;
+        int length = command.length();
+
+        for (int i = 0; i <= length; i++) {
+            if (i < length && command.charAt(i) != ' ') {
+                continue;
+            }
+
+            tokens.append(start, i);
+            if (i > start) {
+                nonEmptySize = tokens.size;
+            }
+            start = i + 1;
+        }
+
+        // Like String.split, drop trailing empty words unless the command has no separator at all
+        if (tokens.size > 1) {
+            tokens.size = nonEmptySize;
+        }
+
+        return tokens;
+    }
+
+    private void append(int start, int end) {
+        if (this.size == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.size * 2);
+            this.ends = Arrays.copyOf(this.ends, this.size * 2);
+        }
+        this.starts[this.size] = start;
+        this.ends[this.size] = end;
+        this.size++;
+    }
+
+    /**
+     * Returns the original command string.
+     *
+     * @return The command string.
+     */
+    public String getCommand() {
+        return this.command;
+    }
+
+    /**
+     * Returns the number of words in the command.
+     *
+     * @return The number of words.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the first word of the command, which names the command type.
+     *
+     * @return The command word.
+     */
+    public String getCommandWord() {
+        int end = this.command.indexOf(' ');
+        return end < 0 ? this.command : this.command.substring(0, end);
+    }
+
+    /**
+     * Checks if the command consists of the command word only.
+     *
+     * @return true if the command has no arguments, false otherwise.
+     */
+    public boolean hasNoArgument() {
+        return this.size == 1;
+    }
+
+    /**
+     * Counts the words that are equal to the given argument.
+     *
+     * @param argument The argument to count.
+     * @return The number of occurrences of the argument.
+     */
+    public int count(String argument) {
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.isWordEqualTo(i, argument)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extracts the value of every argument in the command.
+     * The value of an argument is the text between the argument and the next expected argument.
+     *
+     * @param arguments The expected arguments of the command.
+     * @return A map from each argument found in the command to its value.
+     * @throws InvalidCommandFormatException If an argument has no value.
+     */
+    public Map<String, String> getArgumentValues(Set<String> arguments) throws InvalidCommandFormatException {
+        return this.getArgumentValues(arguments, Collections.emptySet());
+    }
+
+    /**
+     * Extracts the value of every argument in the command, where flags are arguments without a value.
+     * The value of an argument is the text between the argument and the next expected argument or flag.
+     *
+     * @param arguments The expected arguments of the command.
+     * @param flags The expected flags of the command.
+     * @return A map from each argument found in the command to its value, and from each flag found to "".
+     * @throws InvalidCommandFormatException If an argument has no value or a flag has one.
+     */
+    public Map<String, String> getArgumentValues(Set<String> arguments, Set<String> flags)
+            throws InvalidCommandFormatException {
+        Map<String, String> argToValue = new HashMap<>();
+
+        String currArg = null;
+        boolean isCurrArgFlag = false;
+        int indexOfCurrArg = 0;
+
+        for (int i = 0; i <= this.size; i++) {
+            String matchedArg = null;
+            boolean isMatchedArgFlag = false;
+
+            if (i < this.size) {
+                matchedArg = this.matchArgument(i, arguments);
+                if (matchedArg == null) {
+                    matchedArg = this.matchArgument(i, flags);
+                    isMatchedArgFlag = matchedArg != null;
+                }
+                if (matchedArg == null) {
+                    continue;
+                }
+            }
+
+            // Close the value of the previous argument, at the next argument or at the end of the command
+            if (currArg != null) {
+                boolean hasValue = indexOfCurrArg + 1 < i;
+
+                if (isCurrArgFlag && hasValue) {
+                    throw new InvalidCommandFormatException("Unexpected value for flag \"" + currArg + "\" !");
+                } else if (isCurrArgFlag) {
+                    argToValue.put(currArg, "");
+                } else if (!hasValue) {
+                    throw new InvalidCommandFormatException(i == this.size
+                            ? "Missing value for argument \"" + currArg + "\" !"
+                            : "Missing value for argument \"" + currArg + "\"");
+                } else {
+                    argToValue.put(currArg, this.join(indexOfCurrArg + 1, i));
+                }
+            }
+
+            currArg = matchedArg;
+            isCurrArgFlag = isMatchedArgFlag;
+            indexOfCurrArg = i;
+        }
+
+        return argToValue;
+    }
+
+    private String matchArgument(int index, Set<String> arguments) {
+        for (String argument : arguments) {
+            if (this.isWordEqualTo(index, argument)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private boolean isWordEqualTo(int index, String word) {
+        int start = this.starts[index];
+        int length = this.ends[index] - start;
+        return length == word.length() && this.command.regionMatches(start, word, 0, length);
+    }
+
+    /**
+     * Returns the words from index {@code from} (inclusive) to {@code to} (exclusive), joined by single spaces.
+     * As the words are separated by single spaces, this is a substring of the original command.
+     */
+    private String join(int from, int to) {
+        return this.command.substring(this.starts[from], this.ends[to - 1]);
+    }
+}
@@ -1,7 +1,6 @@
 package corgi.parsers;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -20,19 +19,30 @@ public class CommandValidator {
      */
     public void validateArguments(String command, Set<String> arguments)
             throws InvalidCommandFormatException {
-        List<String> errorMsg = new ArrayList<>();
-        boolean isValid = true;
+        this.validateArguments(CommandTokens.tokenize(command), arguments);
+    }
+
+    /**
+     * Validates the presence and number of expected arguments in an already tokenized command.
+     *
+     * @param tokens The words of the command to be validated.
+     * @param arguments A set of expected arguments that should be present in the command.
+     * @throws InvalidCommandFormatException If the command does not contain all the expected arguments
+     *                                        or contains duplicate arguments.
+     */
+    public void validateArguments(CommandTokens tokens, Set<String> arguments)
+            throws InvalidCommandFormatException {
+        List<String> errorMsg = null;
         for (String argument : arguments) {
-            long numOfArg = new ArrayList<String>(Arrays.asList(command.split(" ")))
-                    .stream()
-                    .filter(x -> x.equals(argument))
-                    .count();
+            int numOfArg = tokens.count(argument);
 
             if (numOfArg == 1) {
                 continue;
             }
 
-            isValid = false;
+            if (errorMsg == null) {
+                errorMsg = new ArrayList<>();
+            }
 
             if (numOfArg == 0) {
                 errorMsg.add("Missing argument " + "\"" + argument + "\" !");
@@ -41,10 +51,35 @@ public class CommandValidator {
             }
         }
 
-        String fullErrorMsg = String.join("\n", errorMsg);
+        if (errorMsg != null) {
+            throw new InvalidCommandFormatException(String.join("\n", errorMsg));
+        }
+    }
+
+    /**
+     * Validates that optional arguments are given at most once in an already tokenized command.
+     *
+     * @param tokens The words of the command to be validated.
+     * @param arguments A set of optional arguments.
+     * @throws InvalidCommandFormatException If the command contains duplicate optional arguments.
+     */
+    public void validateOptionalArguments(CommandTokens tokens, Set<String> arguments)
+            throws InvalidCommandFormatException {
+        List<String> errorMsg = null;
+        for (String argument : arguments) {
+            if (tokens.count(argument) <= 1) {
+                continue;
+            }
+
+            if (errorMsg == null) {
+                errorMsg = new ArrayList<>();
+            }
+
+            errorMsg.add("Invalid number of argument " + "\"" + argument + "\" !");
+        }
 
-        if (!isValid) {
-            throw new InvalidCommandFormatException(fullErrorMsg);
+        if (errorMsg != null) {
+            throw new InvalidCommandFormatException(String.join("\n", errorMsg));
         }
     }
 
@@ -55,7 +90,6 @@ public class CommandValidator {
      * @return true if the command has no arguments, false otherwise.
      */
     public boolean hasNoArgument(String command) {
-        String[] splitWithSpace = command.split(" ");
-        return splitWithSpace.length == 1;
+        return CommandTokens.tokenize(command).hasNoArgument();
     }
 }
@@ -1,5 +1,11 @@
 package corgi.parsers;
 
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import corgi.tasks.Task;
+
 /**
  * The Parser abstract class defines a common interface for parsing strings
  * and converting them into objects of a specified type.
@@ -14,4 +20,27 @@ public abstract class Parser<T> {
      * @return An object of type T parsed from the input string.
      */
     public abstract T parse(String s) throws ParsingException;
+
+    /**
+     * Parses a date typed by the user in the input format, e.g. {@code 2026-12-01}.
+     * Text that does not follow the format is rejected without a DateTimeParseException,
+     * so that typos do not pay for an exception and its stack trace.
+     *
+     * @param text The text to parse.
+     * @return The date, or null if the text is not a valid date.
+     */
+    static LocalDate parseDate(String text) {
+        ParsePosition position = new ParsePosition(0);
+
+        if (Task.DATE_INPUT_FORMATTER.parseUnresolved(text, position) == null
+                || position.getIndex() != text.length()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(text, Task.DATE_INPUT_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
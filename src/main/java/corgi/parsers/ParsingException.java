@@ -1,9 +1,11 @@
 package corgi.parsers;
 
+import corgi.UserInputException;
+
 /**
  * Custom exception class to handle parsing errors.
  */
-public class ParsingException extends Exception {
+public class ParsingException extends UserInputException {
     /**
      * Constructs a new ParsingException with the specified error message.
      *
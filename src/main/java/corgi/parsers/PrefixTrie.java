@@ -0,0 +1,60 @@
+package corgi.parsers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A prefix tree of words, used to complete partially typed commands and arguments.
+ * Looking up a prefix only visits the nodes along the prefix and the words that match it.
+ */
+public class PrefixTrie {
+    private final Node root = new Node();
+
+    /**
+     * Adds a word to the trie.
+     *
+     * @param word The word to add.
+     */
+    public void insert(String word) {
+        Node node = this.root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+        }
+        node.word = word;
+    }
+
+    /**
+     * Returns every word in the trie that starts with the given prefix, in alphabetical order.
+     *
+     * @param prefix The prefix to complete.
+     * @return The words starting with the prefix.
+     */
+    public List<String> startingWith(String prefix) {
+        Node node = this.root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+
+        List<String> words = new ArrayList<>();
+        if (node != null) {
+            collect(node, words);
+        }
+        return words;
+    }
+
+    private static void collect(Node node, List<String> words) {
+        if (node.word != null) {
+            words.add(node.word);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, words);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+    }
+}
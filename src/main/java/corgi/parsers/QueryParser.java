@@ -0,0 +1,171 @@
+package corgi.parsers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import corgi.query.QueryTerm;
+import corgi.query.TaskQuery;
+
+/**
+ * The QueryParser class extends the abstract Parser class and converts the conditions
+ * of a query command into a TaskQuery.
+ *
+ * Conditions have the form {@code key:value} and are separated by spaces. A task must satisfy
+ * all conditions, unless they are split into alternatives by the word {@code or}. A condition
+ * prefixed with {@code -} is negated. Supported keys are {@code type}, {@code done},
+ * {@code text}, {@code before}, {@code after} and {@code on}; text values may be quoted.
+ */
+public class QueryParser extends Parser<TaskQuery> {
+    /**
+     * Parses the given conditions and converts them into a TaskQuery.
+     *
+     * @param s The conditions of the query.
+     * @return A TaskQuery matching the tasks that satisfy the conditions.
+     */
+    @Override
+    public TaskQuery parse(String s) throws ParsingException {
+        List<List<QueryTerm>> conjunctions = new ArrayList<>();
+        List<QueryTerm> current = new ArrayList<>();
+
+        int i = 0;
+        int length = s.length();
+
+        while (i < length) {
+            if (s.charAt(i) == ' ') {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            boolean isQuoted = false;
+            StringBuilder word = new StringBuilder();
+
+            // Read one word; spaces inside quotes belong to the word
+            while (i < length && (isQuoted || s.charAt(i) != ' ')) {
+                char c = s.charAt(i);
+                if (c == '"') {
+                    isQuoted = !isQuoted;
+                } else {
+                    word.append(c);
+                }
+                i++;
+            }
+
+            if (isQuoted) {
+                throw new InvalidParsingFormatException("Missing closing quote in \"" + s.substring(start) + "\"!");
+            }
+
+            String raw = s.substring(start, i);
+
+            if (raw.equalsIgnoreCase("or")) {
+                if (current.isEmpty()) {
+                    throw new InvalidParsingFormatException("\"or\" must be placed between conditions!");
+                }
+                conjunctions.add(current);
+                current = new ArrayList<>();
+            } else {
+                current.add(parseTerm(raw, word.toString()));
+            }
+        }
+
+        if (current.isEmpty()) {
+            throw new InvalidParsingFormatException(conjunctions.isEmpty()
+                    ? "No condition is provided!"
+                    : "\"or\" must be placed between conditions!");
+        }
+
+        conjunctions.add(current);
+        return new TaskQuery(conjunctions);
+    }
+
+    /**
+     * Parses a single condition.
+     *
+     * @param raw The condition as typed, used in error messages.
+     * @param word The condition with its quotes removed.
+     */
+    private QueryTerm parseTerm(String raw, String word) throws InvalidParsingFormatException {
+        boolean isNegated = word.startsWith("-");
+        String condition = isNegated ? word.substring(1) : word;
+
+        int separator = condition.indexOf(':');
+        if (separator <= 0 || separator == condition.length() - 1) {
+            throw new InvalidParsingFormatException("Invalid condition \"" + raw + "\"! Expected key:value.");
+        }
+
+        String key = condition.substring(0, separator).toLowerCase(Locale.ROOT);
+        String value = condition.substring(separator + 1);
+
+        QueryTerm term;
+
+        switch (key) {
+        case "type":
+            term = QueryTerm.ofType(parseType(value, raw));
+            break;
+        case "done":
+            term = QueryTerm.ofStatus(parseStatus(value, raw));
+            break;
+        case "text":
+            term = QueryTerm.containing(value);
+            break;
+        case "before":
+            term = QueryTerm.before(parseDate(value, raw));
+            break;
+        case "after":
+            term = QueryTerm.after(parseDate(value, raw));
+            break;
+        case "on":
+            term = QueryTerm.on(parseDate(value, raw));
+            break;
+        default:
+            throw new InvalidParsingFormatException("Unknown condition \"" + key + "\" in \"" + raw + "\"!");
+        }
+
+        return isNegated ? QueryTerm.not(term) : term;
+    }
+
+    private String parseType(String value, String raw) throws InvalidParsingFormatException {
+        switch (value.toLowerCase(Locale.ROOT)) {
+        case "t":
+        case "todo":
+            return "T";
+        case "d":
+        case "deadline":
+            return "D";
+        case "e":
+        case "event":
+            return "E";
+        case "r":
+        case "recur":
+            return "R";
+        default:
+            throw new InvalidParsingFormatException("Invalid task type in \"" + raw
+                    + "\"! Use T, D, E or R.");
+        }
+    }
+
+    private boolean parseStatus(String value, String raw) throws InvalidParsingFormatException {
+        switch (value.toLowerCase(Locale.ROOT)) {
+        case "1":
+        case "true":
+            return true;
+        case "0":
+        case "false":
+            return false;
+        default:
+            throw new InvalidParsingFormatException("Invalid status in \"" + raw + "\"! Use 0 or 1.");
+        }
+    }
+
+    private LocalDate parseDate(String value, String raw) throws InvalidParsingFormatException {
+        LocalDate date = Parser.parseDate(value);
+
+        if (date == null) {
+            throw new InvalidParsingFormatException("Invalid date in \"" + raw + "\"! Use yyyy-mm-dd.");
+        }
+
+        return date;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.regex.Pattern;
 
 import corgi.tasks.Deadline;
 import corgi.tasks.Event;
+import corgi.tasks.RecurrenceRule;
+import corgi.tasks.Recurring;
 import corgi.tasks.Task;
 import corgi.tasks.ToDo;
 
@@ -94,6 +96,13 @@ public class TaskParser extends Parser<Task> {
 
             task = new Event(isDone, desc, from, to);
             break;
+        case "R":
+            if (infos.length != 6 && infos.length != 7) {
+                throw new InvalidParsingFormatException("Wrong format for Recurring task!");
+            }
+
+            task = parseRecurring(isDone, desc, infos);
+            break;
         default:
             throw new InvalidParsingTypeException("Invalid task type!");
         }
@@ -102,4 +111,43 @@ public class TaskParser extends Parser<Task> {
 
         return task;
     }
+
+    /**
+     * Parses the rule of a recurring task and the occurrences done, if any.
+     */
+    private Recurring parseRecurring(boolean isDone, String desc, String[] infos)
+            throws InvalidParsingFormatException {
+        RecurrenceRule.Frequency frequency = RecurrenceRule.Frequency.ofUnit(infos[3]);
+        if (frequency == null) {
+            throw new InvalidParsingFormatException("Invalid frequency for Recurring task!");
+        }
+
+        LocalDate start = null;
+        LocalDate until = null;
+        LocalDate[] doneDates = new LocalDate[0];
+
+        try {
+            start = LocalDate.parse(infos[4], Task.DATE_INPUT_FORMATTER);
+            if (!infos[5].equals(Recurring.NO_END)) {
+                until = LocalDate.parse(infos[5], Task.DATE_INPUT_FORMATTER);
+            }
+            if (infos.length == 7) {
+                String[] dates = infos[6].split(Recurring.DATE_SEPARATOR);
+                doneDates = new LocalDate[dates.length];
+                for (int i = 0; i < dates.length; i++) {
+                    doneDates[i] = LocalDate.parse(dates[i], Task.DATE_INPUT_FORMATTER);
+                }
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidParsingFormatException("Wrong format for date!");
+        }
+
+        assert start != null : "LocalDate object cannot be null";
+
+        if (until != null && until.isBefore(start)) {
+            throw new InvalidParsingFormatException("Recurring task cannot end before it starts!");
+        }
+
+        return new Recurring(isDone, desc, new RecurrenceRule(frequency, start, until), doneDates);
+    }
 }
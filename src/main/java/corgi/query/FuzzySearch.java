@@ -0,0 +1,118 @@
+package corgi.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import corgi.tasks.TaskList;
+import corgi.tasks.TextNormalizer;
+import corgi.tasks.WordIndex;
+
+/**
+ * Typo-tolerant search over task descriptions, ignoring case and accents.
+ *
+ * Each word of the keyword is looked up in the word index of the task list, which only compares it with
+ * the words of the vocabulary that may be close enough. A task is ranked by the sum, over the keyword's words,
+ * of the edit distance to its closest word; a keyword word the task does not match counts as one more than
+ * the largest distance allowed for it.
+ */
+public final class FuzzySearch {
+    private FuzzySearch() {
+    }
+
+    /**
+     * Returns the largest edit distance allowed for a keyword word, so that short words are not
+     * matched by almost anything.
+     *
+     * @param word The keyword word.
+     * @return The largest edit distance allowed.
+     */
+    public static int getMaxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Selects the tasks closest to the keyword.
+     *
+     * @param tasks The task list to search.
+     * @param keyword The keyword, made of one or more words.
+     * @param limit The largest number of tasks to return.
+     * @return A new TaskList with at most {@code limit} tasks, the closest first and ties in list order.
+     */
+    public static TaskList select(TaskList tasks, String keyword, int limit) {
+        String[] words = WordIndex.splitIntoWords(TextNormalizer.fold(keyword));
+        if (words.length == 0) {
+            return tasks.select(new int[0]);
+        }
+
+        // Only the tasks the index returns get a score, so a query costs nothing for the tasks it does not match
+        Map<Integer, Match> matches = new HashMap<>();
+        List<Match> matchedForWord = new ArrayList<>();
+
+        for (int i = 0; i < words.length; i++) {
+            int wordNumber = i + 1;
+            int maxDistance = getMaxDistance(words[i]);
+            matchedForWord.clear();
+
+            tasks.searchWords(words[i], maxDistance, (position, distance) -> {
+                Match match = matches.get(position);
+                if (match == null) {
+                    match = new Match(position);
+                    matches.put(position, match);
+                }
+                if (match.lastWord != wordNumber) {
+                    match.lastWord = wordNumber;
+                    match.closestDistance = distance;
+                    matchedForWord.add(match);
+                } else if (distance < match.closestDistance) {
+                    match.closestDistance = distance;
+                }
+            });
+
+            // Rather than the distance itself, accumulate how much better than "not matched" each task is
+            for (Match match : matchedForWord) {
+                match.gain += maxDistance + 1 - match.closestDistance;
+            }
+        }
+
+        // Keep the best tasks in a heap whose head is the worst of them
+        Comparator<Match> byGain = (a, b) -> a.gain != b.gain
+                ? Integer.compare(a.gain, b.gain)
+                : Integer.compare(b.position, a.position);
+        PriorityQueue<Match> best = new PriorityQueue<>(byGain);
+        for (Match match : matches.values()) {
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (byGain.compare(match, best.peek()) > 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        int[] positions = new int[best.size()];
+        for (int i = positions.length - 1; i >= 0; i--) {
+            positions[i] = best.poll().position;
+        }
+        return tasks.select(positions);
+    }
+
+    /**
+     * The score of a task matching at least one word of the keyword.
+     */
+    private static final class Match {
+        private final int position;
+        private int gain;
+        private int lastWord;
+        private int closestDistance;
+
+        Match(int position) {
+            this.position = position;
+        }
+    }
+}
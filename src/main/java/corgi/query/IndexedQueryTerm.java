@@ -0,0 +1,26 @@
+package corgi.query;
+
+import corgi.tasks.TaskIndex;
+
+/**
+ * A query term that can also be answered from a {@link TaskIndex}.
+ * It reports how many tasks it would select, so that the planner can start
+ * from the most selective term of a conjunction.
+ */
+public abstract class IndexedQueryTerm extends QueryTerm {
+    /**
+     * Returns the number of tasks the term selects according to the index.
+     *
+     * @param index The index of the task list.
+     * @return The number of tasks.
+     */
+    public abstract int estimate(TaskIndex index);
+
+    /**
+     * Returns the positions, in list order, of the tasks the term selects according to the index.
+     *
+     * @param index The index of the task list.
+     * @return The positions of the selected tasks.
+     */
+    public abstract int[] candidates(TaskIndex index);
+}
@@ -0,0 +1,69 @@
+package corgi.query;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+import corgi.tasks.TaskList;
+import corgi.tasks.TextNormalizer;
+
+/**
+ * Finds the tasks containing a keyword as it is typed, ignoring case and accents.
+ *
+ * When the keyword extends the previous one and the task list is unchanged, only the tasks that matched the
+ * previous keyword are checked again, since any task containing the longer keyword contains the shorter one.
+ * A search can be cancelled part way, for when a newer keystroke makes it stale.
+ * An instance remembers its previous search and is meant to be used by one thread at a time.
+ */
+public final class LiveSearch {
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private TaskList lastList;
+    private String lastFoldedKeyword;
+    private int[] lastPositions;
+    private int lastCandidateCount;
+
+    /**
+     * Finds the positions of the tasks containing the keyword, ignoring case and accents.
+     *
+     * @param list The task list to search.
+     * @param keyword The keyword.
+     * @param isCancelled Tells whether the search is no longer needed.
+     * @return The positions of the matching tasks in ascending order, or null if the search was cancelled.
+     */
+    public int[] search(TaskList list, String keyword, BooleanSupplier isCancelled) {
+        String foldedKeyword = TextNormalizer.fold(keyword);
+
+        boolean isRefining = list == this.lastList && this.lastFoldedKeyword != null
+                && foldedKeyword.startsWith(this.lastFoldedKeyword);
+        int candidateCount = isRefining ? this.lastPositions.length : list.size();
+
+        int[] positions = new int[candidateCount];
+        int count = 0;
+
+        for (int i = 0; i < candidateCount; i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return null;
+            }
+
+            int position = isRefining ? this.lastPositions[i] : i;
+            if (list.get(position).containsIgnoreCase(foldedKeyword)) {
+                positions[count++] = position;
+            }
+        }
+
+        this.lastList = list;
+        this.lastFoldedKeyword = foldedKeyword;
+        this.lastPositions = count == positions.length ? positions : Arrays.copyOf(positions, count);
+        this.lastCandidateCount = candidateCount;
+        return this.lastPositions;
+    }
+
+    /**
+     * Returns the number of tasks checked by the last completed search.
+     *
+     * @return The number of tasks checked.
+     */
+    int getLastCandidateCount() {
+        return this.lastCandidateCount;
+    }
+}
@@ -0,0 +1,103 @@
+package corgi.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+
+/**
+ * Evaluates queries against task lists.
+ *
+ * Each conjunction starts from its most selective indexed term: only the positions that term
+ * selects are fetched and tested against the remaining terms. A conjunction without any indexed
+ * term falls back to a scan of the whole list. The matches of all conjunctions are merged so
+ * that the result keeps the list order.
+ */
+public final class QueryPlanner {
+    private QueryPlanner() {
+    }
+
+    /**
+     * Selects the tasks matching the given query.
+     *
+     * @param tasks The task list to query.
+     * @param query The query.
+     * @return A new TaskList with the matching tasks, in list order.
+     */
+    public static TaskList select(TaskList tasks, TaskQuery query) {
+        List<List<QueryTerm>> conjunctions = query.getConjunctions();
+
+        if (conjunctions.size() == 1) {
+            return tasks.select(evaluate(tasks, conjunctions.get(0)));
+        }
+
+        BitSet matches = new BitSet(tasks.size());
+        for (List<QueryTerm> conjunction : conjunctions) {
+            for (int position : evaluate(tasks, conjunction)) {
+                matches.set(position);
+            }
+        }
+        return tasks.select(matches.stream().toArray());
+    }
+
+    /**
+     * Returns the positions, in list order, of the tasks matching every term of the conjunction.
+     */
+    private static int[] evaluate(TaskList tasks, List<QueryTerm> conjunction) {
+        IndexedQueryTerm driver = chooseDriver(tasks, conjunction);
+
+        int[] result;
+        int count = 0;
+
+        if (driver == null) {
+            result = new int[tasks.size()];
+            for (int i = 0; i < tasks.size(); i++) {
+                if (TaskQuery.matchesAll(conjunction, tasks.get(i))) {
+                    result[count++] = i;
+                }
+            }
+        } else {
+            List<QueryTerm> rest = new ArrayList<>(conjunction);
+            rest.remove(driver);
+
+            int[] candidates = driver.candidates(tasks.getIndex());
+            result = new int[candidates.length];
+            for (int position : candidates) {
+                Task task = tasks.get(position);
+                if (TaskQuery.matchesAll(rest, task)) {
+                    result[count++] = position;
+                }
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the indexed term of the conjunction selecting the fewest tasks,
+     * or null if the conjunction has no indexed term.
+     */
+    static IndexedQueryTerm chooseDriver(TaskList tasks, List<QueryTerm> conjunction) {
+        IndexedQueryTerm best = null;
+        int bestEstimate = Integer.MAX_VALUE;
+
+        for (QueryTerm term : conjunction) {
+            if (!(term instanceof IndexedQueryTerm)) {
+                continue;
+            }
+
+            // The index is built on first use, so a conjunction without indexed terms never pays for it
+            IndexedQueryTerm indexedTerm = (IndexedQueryTerm) term;
+            int estimate = indexedTerm.estimate(tasks.getIndex());
+            if (estimate < bestEstimate) {
+                best = indexedTerm;
+                bestEstimate = estimate;
+            }
+        }
+
+        return best;
+    }
+}
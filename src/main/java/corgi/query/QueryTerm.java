@@ -0,0 +1,200 @@
+package corgi.query;
+
+import java.time.LocalDate;
+
+import corgi.tasks.Task;
+import corgi.tasks.TaskIndex;
+
+/**
+ * A single condition of a query, such as {@code type:D} or {@code before:2026-12-01}.
+ *
+ * Every term can test a task. Terms that can also be answered from a {@link TaskIndex}
+ * extend {@link IndexedQueryTerm}.
+ */
+public abstract class QueryTerm {
+    /**
+     * Checks if the given task satisfies the term.
+     *
+     * @param task The task to check.
+     * @return True if the task satisfies the term, false otherwise.
+     */
+    public abstract boolean test(Task task);
+
+    /**
+     * Creates a term matching tasks of the given type.
+     *
+     * @param typeCode The one-letter code of the type.
+     * @return The term.
+     */
+    public static QueryTerm ofType(String typeCode) {
+        return new IndexedQueryTerm() {
+            @Override
+            public boolean test(Task task) {
+                return task.getTypeCode().equals(typeCode);
+            }
+
+            @Override
+            public int estimate(TaskIndex index) {
+                return index.getPositionsOfType(typeCode).length;
+            }
+
+            @Override
+            public int[] candidates(TaskIndex index) {
+                return index.getPositionsOfType(typeCode);
+            }
+
+            @Override
+            public String toString() {
+                return "type:" + typeCode;
+            }
+        };
+    }
+
+    /**
+     * Creates a term matching tasks with the given status.
+     *
+     * @param isDone The status of the tasks.
+     * @return The term.
+     */
+    public static QueryTerm ofStatus(boolean isDone) {
+        return new IndexedQueryTerm() {
+            @Override
+            public boolean test(Task task) {
+                return task.isDone() == isDone;
+            }
+
+            @Override
+            public int estimate(TaskIndex index) {
+                return index.getPositionsWithStatus(isDone).length;
+            }
+
+            @Override
+            public int[] candidates(TaskIndex index) {
+                return index.getPositionsWithStatus(isDone);
+            }
+
+            @Override
+            public String toString() {
+                return "done:" + (isDone ? 1 : 0);
+            }
+        };
+    }
+
+    /**
+     * Creates a term matching tasks whose description contains the given text.
+     *
+     * @param text The text to search for.
+     * @return The term.
+     */
+    public static QueryTerm containing(String text) {
+        return new QueryTerm() {
+            @Override
+            public boolean test(Task task) {
+                return task.contains(text);
+            }
+
+            @Override
+            public String toString() {
+                return "text:\"" + text + "\"";
+            }
+        };
+    }
+
+    /**
+     * Creates a term matching dated tasks whose key date is strictly before the given date.
+     *
+     * @param date The date.
+     * @return The term.
+     */
+    public static QueryTerm before(LocalDate date) {
+        return new DateRangeTerm(null, date, "before:" + date);
+    }
+
+    /**
+     * Creates a term matching dated tasks whose key date is strictly after the given date.
+     *
+     * @param date The date.
+     * @return The term.
+     */
+    public static QueryTerm after(LocalDate date) {
+        return new DateRangeTerm(date.plusDays(1), null, "after:" + date);
+    }
+
+    /**
+     * Creates a term matching tasks happening on the given date.
+     *
+     * @param date The date.
+     * @return The term.
+     */
+    public static QueryTerm on(LocalDate date) {
+        return new QueryTerm() {
+            @Override
+            public boolean test(Task task) {
+                return task.isHappeningOnDate(date);
+            }
+
+            @Override
+            public String toString() {
+                return "on:" + date;
+            }
+        };
+    }
+
+    /**
+     * Creates a term matching the tasks the given term does not match.
+     *
+     * @param term The term to negate.
+     * @return The term.
+     */
+    public static QueryTerm not(QueryTerm term) {
+        return new QueryTerm() {
+            @Override
+            public boolean test(Task task) {
+                return !term.test(task);
+            }
+
+            @Override
+            public String toString() {
+                return "-" + term;
+            }
+        };
+    }
+
+    /**
+     * A term matching dated tasks whose key date lies in a half-open range.
+     */
+    private static final class DateRangeTerm extends IndexedQueryTerm {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final String text;
+
+        DateRangeTerm(LocalDate from, LocalDate to, String text) {
+            this.from = from;
+            this.to = to;
+            this.text = text;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            LocalDate date = task.getKeyDate();
+            return date != null
+                    && (this.from == null || !date.isBefore(this.from))
+                    && (this.to == null || date.isBefore(this.to));
+        }
+
+        @Override
+        public int estimate(TaskIndex index) {
+            return index.countInDateRange(this.from, this.to);
+        }
+
+        @Override
+        public int[] candidates(TaskIndex index) {
+            return index.getPositionsInDateRange(this.from, this.to);
+        }
+
+        @Override
+        public String toString() {
+            return this.text;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package corgi.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import corgi.tasks.Task;
+
+/**
+ * A query over tasks in disjunctive normal form: a task matches if it satisfies
+ * every term of at least one conjunction.
+ */
+public final class TaskQuery {
+    private final List<List<QueryTerm>> conjunctions;
+
+    /**
+     * Constructs a query from its conjunctions.
+     *
+     * @param conjunctions The conjunctions of the query, none of them empty.
+     */
+    public TaskQuery(List<List<QueryTerm>> conjunctions) {
+        assert !conjunctions.isEmpty() : "A query needs at least one conjunction.";
+
+        List<List<QueryTerm>> copy = new ArrayList<>();
+        for (List<QueryTerm> conjunction : conjunctions) {
+            assert !conjunction.isEmpty() : "A conjunction needs at least one term.";
+            copy.add(Collections.unmodifiableList(new ArrayList<>(conjunction)));
+        }
+        this.conjunctions = Collections.unmodifiableList(copy);
+    }
+
+    public List<List<QueryTerm>> getConjunctions() {
+        return this.conjunctions;
+    }
+
+    /**
+     * Checks if the given task matches the query.
+     *
+     * @param task The task to check.
+     * @return True if the task matches, false otherwise.
+     */
+    public boolean test(Task task) {
+        for (List<QueryTerm> conjunction : this.conjunctions) {
+            if (matchesAll(conjunction, task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matchesAll(List<QueryTerm> terms, Task task) {
+        for (QueryTerm term : terms) {
+            if (!term.test(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (List<QueryTerm> conjunction : this.conjunctions) {
+            if (sb.length() > 0) {
+                sb.append(" or ");
+            }
+            for (int i = 0; i < conjunction.size(); i++) {
+                if (i > 0) {
+                    sb.append(' ');
+                }
+                sb.append(conjunction.get(i));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package corgi.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import corgi.tenant.InvalidTenantException;
+import corgi.tenant.TenantRegistry;
+
+/**
+ * A headless HTTP front end for Corgi.
+ *
+ * The server accepts the command text as the body of a POST request to {@code /command}
+ * and replies with the response produced by {@link corgi.Corgi#getResponse(String)}.
+ * The introductory message is available through a GET request to {@code /intro},
+ * and cache statistics through a GET request to {@code /stats}.
+ * The user is selected with the {@code X-Corgi-User} header, and every user has their own task list.
+ * Requests are handled concurrently, but commands for the same user are applied one at a time.
+ * A command that fails unexpectedly is answered with status 500, so the client always gets a reply.
+ * A command longer than 16 KiB is refused with status 413, as every user shares the heap.
+ */
+public class CorgiServer {
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final String USER_HEADER = "X-Corgi-User";
+    private static final String DEFAULT_USER = "default";
+    private static final int MAX_COMMAND_BYTES = 16 * 1024;
+
+    private final TenantRegistry tenants;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new server for the given users, listening on the loopback address.
+     *
+     * @param tenants The registry of the users' chatbots.
+     * @param port The port to listen on, or 0 to pick a free port.
+     * @throws IOException If the server socket cannot be bound.
+     */
+    public CorgiServer(TenantRegistry tenants, int port) throws IOException {
+        this.tenants = tenants;
+        this.executor = ServerExecutors.newPerRequestExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/command", this::handleCommand);
+        this.server.createContext("/intro", this::handleIntro);
+        this.server.createContext("/stats", this::handleStats);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        this.server.start();
+    }
+
+    /**
+     * Stops accepting requests, releases the request threads and saves all loaded task lists.
+     */
+    public void stop() {
+        this.server.stop(0);
+        this.executor.shutdown();
+        this.tenants.flushAll();
+    }
+
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                send(exchange, 405, "Only POST is supported.\n");
+                return;
+            }
+
+            String body = readBody(exchange);
+
+            if (body == null) {
+                send(exchange, 413, "Command cannot be longer than " + MAX_COMMAND_BYTES + " bytes.\n");
+                return;
+            }
+
+            String input = body.trim();
+
+            if (input.isEmpty()) {
+                send(exchange, 400, "Command cannot be empty.\n");
+                return;
+            }
+
+            try {
+                send(exchange, 200, this.tenants.getResponse(getUser(exchange), input));
+            } catch (InvalidTenantException e) {
+                send(exchange, 400, e.getMessage() + "\n");
+            } catch (RuntimeException e) {
+                send(exchange, 500, "Command failed: " + e + "\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleIntro(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                send(exchange, 405, "Only GET is supported.\n");
+                return;
+            }
+
+            try {
+                send(exchange, 200, this.tenants.getIntro(getUser(exchange)));
+            } catch (InvalidTenantException e) {
+                send(exchange, 400, e.getMessage() + "\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            String stats = String.format("residentUsers %d%nresidentTasks %d%nhitRate %.4f%nevictions %d%n",
+                    this.tenants.getResidentTenantCount(), this.tenants.getResidentTaskCount(),
+                    this.tenants.getHitRate(), this.tenants.getEvictionCount());
+            send(exchange, 200, stats);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String getUser(HttpExchange exchange) {
+        String user = exchange.getRequestHeaders().getFirst(USER_HEADER);
+        return user == null ? DEFAULT_USER : user;
+    }
+
+    /**
+     * Reads the request body, or returns null without reading the rest if it is longer than the limit.
+     */
+    private String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_COMMAND_BYTES + 1);
+            return bytes.length > MAX_COMMAND_BYTES ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package corgi.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory for the executors used to handle HTTP requests.
+ */
+public final class ServerExecutors {
+    private ServerExecutors() {
+    }
+
+    /**
+     * Creates an executor that runs every request on its own thread.
+     * Virtual threads are used when the running JDK supports them (Java 21 or above),
+     * otherwise a cached pool of platform threads is used instead.
+     *
+     * @return The executor for handling requests.
+     */
+    public static ExecutorService newPerRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Checks whether the running JDK supports virtual threads.
+     *
+     * @return True if virtual threads are available, false otherwise.
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -8,7 +8,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 
+import corgi.metrics.CommandMetrics;
+import corgi.metrics.StorageLoadEvent;
+import corgi.metrics.StorageSaveEvent;
 import corgi.parsers.Parser;
 import corgi.parsers.ParsingException;
 
@@ -63,11 +67,16 @@ public final class Storage<T extends Storable<T>> {
      * @param list The list of storable items to be saved.
      */
     public void save(StorableList<T> list) {
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        long start = CommandMetrics.startTimer();
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(this.filePath))) {
             writer.write(list.getStorableString());
         } catch (IOException e) {
             System.err.println("An error occurred when saving data: " + e.getMessage());
         }
+        CommandMetrics.endSave(start);
+        event.finish(this.filePath);
     }
 
     /**
@@ -76,13 +85,40 @@ public final class Storage<T extends Storable<T>> {
      * @return A List containing the loaded items.
      */
     public List<T> load() {
+        return load(progress -> { });
+    }
+
+    /**
+     * Loads a list of items from a file and returns them as a List, reporting the progress as it goes.
+     * The progress is the fraction of the file read so far, from 0 to 1, and is reported at most once per percent.
+     *
+     * @param progressListener The listener to report the progress to.
+     * @return A List containing the loaded items.
+     */
+    public List<T> load(DoubleConsumer progressListener) {
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
         List<T> items = new ArrayList<>();
 
+        int lines = 0;
         int skipped = 0;
+        long fileLength = new File(this.filePath).length();
+        long charsRead = 0;
+        int percentReported = 0;
+
+        progressListener.accept(0);
 
         try (BufferedReader reader = new BufferedReader(new FileReader(this.filePath))) {
             String line;
             while ((line = reader.readLine()) != null) {
+                lines += 1;
+                charsRead += line.length() + 1;
+                int percent = (int) Math.min(100, charsRead * 100 / Math.max(1, fileLength));
+                if (percent > percentReported) {
+                    percentReported = percent;
+                    progressListener.accept(percent / 100.0);
+                }
+
                 try {
                     T item = parser.parse(line);
                     if (item != null) {
@@ -102,6 +138,11 @@ public final class Storage<T extends Storable<T>> {
             System.out.println("Skipped " + skipped + " lines with corrupted data.");
         }
 
+        if (percentReported < 100) {
+            progressListener.accept(1);
+        }
+
+        event.finish(this.filePath, lines, skipped);
         return items;
     }
 }
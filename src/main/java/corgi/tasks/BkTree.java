@@ -0,0 +1,189 @@
+package corgi.tasks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import corgi.memory.Footprint;
+
+/**
+ * A BK-tree of words under the Levenshtein distance.
+ *
+ * Every child of a node is filed under its distance to the node, so by the triangle inequality a search for
+ * words within distance {@code d} of a query only descends into children filed between {@code dist - d} and
+ * {@code dist + d}. Words cannot be removed, as that would break the filing of their children; instead the
+ * {@link WordIndex} counts the words no task uses any more and starts a new tree once there are too many.
+ */
+final class BkTree {
+    private final Set<String> words = new HashSet<>();
+    private Node root;
+
+    /**
+     * A consumer of the words found by a search.
+     */
+    interface WordConsumer {
+        void accept(String word, int distance);
+    }
+
+    /**
+     * Adds a word to the tree, unless it is already present.
+     *
+     * @param word The word to add.
+     */
+    synchronized void insert(String word) {
+        if (!this.words.add(word)) {
+            return;
+        }
+
+        if (this.root == null) {
+            this.root = new Node(word);
+            return;
+        }
+
+        Node node = this.root;
+        while (true) {
+            int distance = distance(word, node.word);
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds every word within the given distance of the query.
+     *
+     * @param query The word to search for.
+     * @param maxDistance The largest distance of the words to find.
+     * @param consumer The consumer of the words found and their distance to the query.
+     */
+    synchronized void search(String query, int maxDistance, WordConsumer consumer) {
+        if (this.root == null) {
+            return;
+        }
+
+        Node[] stack = new Node[16];
+        int top = 0;
+        stack[top++] = this.root;
+
+        while (top > 0) {
+            Node node = stack[--top];
+            int distance = distance(query, node.word);
+
+            if (distance <= maxDistance) {
+                consumer.accept(node.word, distance);
+            }
+
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int d = from; d <= to; d++) {
+                Node child = node.children[d];
+                if (child != null) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+    }
+
+    synchronized boolean contains(String word) {
+        return this.words.contains(word);
+    }
+
+    synchronized int size() {
+        return this.words.size();
+    }
+
+    /**
+     * Estimates the heap size of the tree and of its set of words. The words are counted with their tasks.
+     *
+     * @return The size in bytes.
+     */
+    synchronized long estimateFootprint() {
+        long size = Footprint.ofObject(2, 0) + Footprint.ofObject(1, 0) + Footprint.ofHashMap(this.words.size());
+        if (this.root == null) {
+            return size;
+        }
+
+        Node[] stack = new Node[16];
+        int top = 0;
+        stack[top++] = this.root;
+
+        while (top > 0) {
+            Node node = stack[--top];
+            size += Footprint.ofObject(2, 0);
+            if (node.children != Node.NO_CHILDREN) {
+                size += Footprint.ofReferenceArray(node.children.length);
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words.
+     */
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[b.length()];
+    }
+
+    /**
+     * A node of the tree, with its children indexed by their distance to it.
+     */
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < this.children.length ? this.children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= this.children.length) {
+                this.children = Arrays.copyOf(this.children, distance + 1);
+            }
+            this.children[distance] = child;
+        }
+    }
+}
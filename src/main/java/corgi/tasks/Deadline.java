@@ -33,12 +33,23 @@ public final class Deadline extends Task {
         this.by = by;
     }
 
+    /**
+     * Initializes a copy of a deadline task with the given status.
+     *
+     * @param isDone The status of the copy.
+     * @param original The task to copy.
+     */
+    private Deadline(boolean isDone, Deadline original) {
+        super(isDone, original);
+        this.by = original.by;
+    }
+
     @Override
     public Deadline markAsDone() throws TaskStatusException {
         if (this.isDone) {
             throw new TaskStatusException("The task is already marked as done.");
         }
-        return new Deadline(true, desc, by);
+        return new Deadline(true, this);
     }
 
     @Override
@@ -46,7 +57,22 @@ public final class Deadline extends Task {
         if (!this.isDone) {
             throw new TaskStatusException("The task is already marked as not done.");
         }
-        return new Deadline(false, desc, by);
+        return new Deadline(false, this);
+    }
+
+    @Override
+    public String getTypeCode() {
+        return "D";
+    }
+
+    @Override
+    public LocalDate getKeyDate() {
+        return this.by;
+    }
+
+    @Override
+    protected int getDateCount() {
+        return 1;
     }
 
     /**
@@ -55,6 +81,7 @@ public final class Deadline extends Task {
      * @param targetDate The date to check against the deadline.
      * @return True if the task's deadline matches the target date, false otherwise.
      */
+    @Override
     public boolean isHappeningOnDate(LocalDate targetDate) {
         return this.by.isEqual(targetDate);
     }
@@ -69,7 +96,7 @@ public final class Deadline extends Task {
         String statusStr = this.isDone ? "1" : "0";
         String formattedBy = this.by.format(Task.DATE_INPUT_FORMATTER);
 
-        String[] infos = {"D", statusStr, this.desc, formattedBy};
+        String[] infos = {this.getTypeCode(), statusStr, this.desc, formattedBy};
         String combinedInfos = String.join(TaskParser.SEPARATOR, infos);
 
         return combinedInfos;
@@ -39,12 +39,24 @@ public final class Event extends Task {
         this.to = to;
     }
 
+    /**
+     * Initializes a copy of an event task with the given status.
+     *
+     * @param isDone The status of the copy.
+     * @param original The task to copy.
+     */
+    private Event(boolean isDone, Event original) {
+        super(isDone, original);
+        this.from = original.from;
+        this.to = original.to;
+    }
+
     @Override
     public Event markAsDone() throws TaskStatusException {
         if (this.isDone) {
             throw new TaskStatusException("The task is already marked as done.");
         }
-        return new Event(true, desc, from, to);
+        return new Event(true, this);
     }
 
     @Override
@@ -52,7 +64,22 @@ public final class Event extends Task {
         if (!this.isDone) {
             throw new TaskStatusException("The task is already marked as not done.");
         }
-        return new Event(false, desc, from, to);
+        return new Event(false, this);
+    }
+
+    @Override
+    public String getTypeCode() {
+        return "E";
+    }
+
+    @Override
+    public LocalDate getKeyDate() {
+        return this.from;
+    }
+
+    @Override
+    protected int getDateCount() {
+        return 2;
     }
 
     /**
@@ -61,6 +88,7 @@ public final class Event extends Task {
      * @param targetDate The date to check against the event duration.
      * @return True if the task's event duration includes the target date, false otherwise.
      */
+    @Override
     public boolean isHappeningOnDate(LocalDate targetDate) {
         boolean isOnStartDate = targetDate.isEqual(this.from);
         boolean isOnEndDate = targetDate.isEqual(this.to);
@@ -80,7 +108,7 @@ public final class Event extends Task {
         String formattedFrom = this.from.format(Task.DATE_INPUT_FORMATTER);
         String formattedTo = this.to.format(Task.DATE_INPUT_FORMATTER);
 
-        String[] infos = {"E", statusStr, this.desc, formattedFrom, formattedTo};
+        String[] infos = {this.getTypeCode(), statusStr, this.desc, formattedFrom, formattedTo};
         String combinedInfos = String.join(TaskParser.SEPARATOR, infos);
 
         return combinedInfos;
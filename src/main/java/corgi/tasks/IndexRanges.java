@@ -0,0 +1,105 @@
+package corgi.tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable set of task indexes, stored as sorted, disjoint ranges so that a range such as
+ * {@code 1-100000} costs no more than a single index until it is applied to a task list.
+ */
+public final class IndexRanges {
+    private final int[] starts;
+    private final int[] ends;
+
+    /**
+     * Constructs the set of indexes covered by the given ranges. Ranges may overlap and come in any order.
+     *
+     * @param ranges The ranges, each given as its first and last index (both inclusive).
+     */
+    public IndexRanges(List<int[]> ranges) {
+        assert !ranges.isEmpty() : "There should be at least one range.";
+
+        List<int[]> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingInt(range -> range[0]));
+
+        int[] mergedStarts = new int[sorted.size()];
+        int[] mergedEnds = new int[sorted.size()];
+        int count = 0;
+
+        for (int[] range : sorted) {
+            assert range[0] <= range[1] : "The start of a range should not be after its end.";
+
+            if (count > 0 && (long) range[0] <= (long) mergedEnds[count - 1] + 1) {
+                mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], range[1]);
+            } else {
+                mergedStarts[count] = range[0];
+                mergedEnds[count] = range[1];
+                count++;
+            }
+        }
+
+        this.starts = Arrays.copyOf(mergedStarts, count);
+        this.ends = Arrays.copyOf(mergedEnds, count);
+    }
+
+    public int getFirst() {
+        return this.starts[0];
+    }
+
+    public int getLast() {
+        return this.ends[this.ends.length - 1];
+    }
+
+    /**
+     * Checks if the set holds a single index.
+     *
+     * @return True if the set holds a single index, false otherwise.
+     */
+    public boolean isSingleIndex() {
+        return this.starts.length == 1 && this.starts[0] == this.ends[0];
+    }
+
+    /**
+     * Returns every index in the set, in ascending order.
+     * Callers should check {@link #getLast()} against the size of the list first.
+     *
+     * @return The indexes.
+     */
+    public int[] toArray() {
+        int size = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            size += this.ends[i] - this.starts[i] + 1;
+        }
+
+        int[] indexes = new int[size];
+        int next = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            for (int index = this.starts[i]; index <= this.ends[i]; index++) {
+                indexes[next++] = index;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the ranges as task numbers, which start from 1, e.g. "3-250,400".
+     *
+     * @return The string representation of the ranges.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < this.starts.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(this.starts[i] + 1);
+            if (this.ends[i] != this.starts[i]) {
+                sb.append('-').append(this.ends[i] + 1);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package corgi.tasks;
+
+import java.time.LocalDate;
+
+/**
+ * One occurrence of a {@link Recurring} task, created when the tasks on a date or the upcoming tasks are listed.
+ *
+ * Occurrences only appear in the lists shown to the user, never in the task list that is saved:
+ * to mark an occurrence, mark its recurring task on the date of the occurrence.
+ */
+public final class Occurrence extends Task {
+    private final Recurring series;
+    private final LocalDate date;
+
+    /**
+     * Initializes the occurrence of a recurring task on a date.
+     *
+     * @param series The recurring task.
+     * @param date The date of the occurrence.
+     */
+    Occurrence(Recurring series, LocalDate date) {
+        super(series.isDoneOn(date), series);
+        this.series = series;
+        this.date = date;
+    }
+
+    public Recurring getSeries() {
+        return this.series;
+    }
+
+    @Override
+    public Task markAsDone() throws TaskStatusException {
+        throw new TaskStatusException("An occurrence is marked through its recurring task.");
+    }
+
+    @Override
+    public Task markAsNotDone() throws TaskStatusException {
+        throw new TaskStatusException("An occurrence is marked through its recurring task.");
+    }
+
+    @Override
+    public String getTypeCode() {
+        return this.series.getTypeCode();
+    }
+
+    @Override
+    public LocalDate getKeyDate() {
+        return this.date;
+    }
+
+    @Override
+    protected int getDateCount() {
+        return 1;
+    }
+
+    @Override
+    public boolean isHappeningOnDate(LocalDate targetDate) {
+        return this.date.isEqual(targetDate);
+    }
+
+    /**
+     * Returns the storable string of the recurring task, as an occurrence is stored as part of it.
+     *
+     * @return The storable string of the recurring task.
+     */
+    @Override
+    public String toStorableString() {
+        return this.series.toStorableString();
+    }
+
+    /**
+     * Returns a string representation of the occurrence.
+     *
+     * @return Task type, status icon, description and date of the occurrence.
+     */
+    @Override
+    public String toString() {
+        return "[R]" + super.toString() + " (on: " + this.date.format(Task.DATE_OUTPUT_FORMATTER) + ")";
+    }
+}
@@ -0,0 +1,179 @@
+package corgi.tasks;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import corgi.memory.Footprint;
+
+/**
+ * The dates a recurring task happens on: every day, week or month from a first date, until a last date or forever.
+ *
+ * Occurrences are never listed in advance. Whether a date is an occurrence, and the first occurrence from a date,
+ * are computed in constant time, so a rule that recurs for years costs no more than one that recurs twice.
+ * Monthly rules on a day some months do not have fall on the last day of those months, as in
+ * {@link LocalDate#plusMonths(long)}.
+ */
+public final class RecurrenceRule {
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final Frequency frequency;
+    private final LocalDate start;
+    private final LocalDate until;
+
+    /**
+     * Initializes a new rule.
+     *
+     * @param frequency How often the task recurs.
+     * @param start The first occurrence.
+     * @param until The last date an occurrence can fall on, or null to recur forever.
+     */
+    public RecurrenceRule(Frequency frequency, LocalDate start, LocalDate until) {
+        assert until == null || !until.isBefore(start) : "A rule cannot end before it starts";
+        this.frequency = frequency;
+        this.start = start;
+        this.until = until;
+    }
+
+    public Frequency getFrequency() {
+        return this.frequency;
+    }
+
+    public LocalDate getStart() {
+        return this.start;
+    }
+
+    public LocalDate getUntil() {
+        return this.until;
+    }
+
+    /**
+     * Checks if the task recurs on the given date.
+     *
+     * @param date The date to check.
+     * @return True if the date is an occurrence, false otherwise.
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(this.start) || (this.until != null && date.isAfter(this.until))) {
+            return false;
+        }
+
+        switch (this.frequency) {
+        case DAILY:
+            return true;
+        case WEEKLY:
+            return ChronoUnit.DAYS.between(this.start, date) % DAYS_PER_WEEK == 0;
+        default:
+            return this.start.plusMonths(monthsBetween(this.start, date)).equals(date);
+        }
+    }
+
+    /**
+     * Returns the first occurrence on or after the given date.
+     *
+     * @param from The first date to look from.
+     * @return The occurrence, or null if the rule ends before it.
+     */
+    public LocalDate getNextOccurrence(LocalDate from) {
+        LocalDate next;
+        if (!from.isAfter(this.start)) {
+            next = this.start;
+        } else {
+            switch (this.frequency) {
+            case DAILY:
+                next = from;
+                break;
+            case WEEKLY:
+                long daysSinceOccurrence = ChronoUnit.DAYS.between(this.start, from) % DAYS_PER_WEEK;
+                next = daysSinceOccurrence == 0 ? from : from.plusDays(DAYS_PER_WEEK - daysSinceOccurrence);
+                break;
+            default:
+                long months = monthsBetween(this.start, from);
+                next = this.start.plusMonths(months);
+                if (next.isBefore(from)) {
+                    next = this.start.plusMonths(months + 1);
+                }
+                break;
+            }
+        }
+        return this.until != null && next.isAfter(this.until) ? null : next;
+    }
+
+    /**
+     * Returns the number of calendar months from the month of one date to the month of another.
+     */
+    private static long monthsBetween(LocalDate from, LocalDate to) {
+        return ChronoUnit.MONTHS.between(from.withDayOfMonth(1), to.withDayOfMonth(1));
+    }
+
+    /**
+     * Estimates the heap size of the rule with its dates.
+     *
+     * @return The size in bytes.
+     */
+    long estimateFootprint() {
+        return Footprint.ofObject(3, 0) + (this.until == null ? 1 : 2) * Footprint.LOCAL_DATE;
+    }
+
+    /**
+     * Returns a string representation of the rule, e.g. "every Monday from Oct 05 2026 until Dec 28 2026".
+     *
+     * @return The string representation.
+     */
+    @Override
+    public String toString() {
+        String every;
+        switch (this.frequency) {
+        case DAILY:
+            every = "every day";
+            break;
+        case WEEKLY:
+            String day = this.start.getDayOfWeek().toString();
+            every = "every " + day.charAt(0) + day.substring(1).toLowerCase(Locale.ROOT);
+            break;
+        default:
+            every = "every month on day " + this.start.getDayOfMonth();
+            break;
+        }
+
+        String range = " from " + this.start.format(Task.DATE_OUTPUT_FORMATTER);
+        if (this.until != null) {
+            range += " until " + this.until.format(Task.DATE_OUTPUT_FORMATTER);
+        }
+        return every + range;
+    }
+
+    /**
+     * How often a recurring task happens.
+     */
+    public enum Frequency {
+        DAILY("day"),
+        WEEKLY("week"),
+        MONTHLY("month");
+
+        private final String unit;
+
+        Frequency(String unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the frequency with the given unit, as typed after {@code /every} and stored in the data file.
+         *
+         * @param unit The unit, e.g. "week". Case is ignored.
+         * @return The frequency, or null if there is none with the unit.
+         */
+        public static Frequency ofUnit(String unit) {
+            for (Frequency frequency : values()) {
+                if (frequency.unit.equalsIgnoreCase(unit)) {
+                    return frequency;
+                }
+            }
+            return null;
+        }
+
+        public String getUnit() {
+            return this.unit;
+        }
+    }
+}
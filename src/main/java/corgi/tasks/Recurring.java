@@ -0,0 +1,233 @@
+package corgi.tasks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import corgi.memory.Footprint;
+import corgi.parsers.TaskParser;
+
+/**
+ * Recurring task, a type of task that happens again and again following a {@link RecurrenceRule}.
+ *
+ * Only the rule is kept, never the occurrences: the occurrences on a date or from a date are derived from it
+ * when asked for (see {@link #getOccurrence(LocalDate)} and {@link #getNextOccurrence(LocalDate)}).
+ * Occurrences marked as done are kept as exceptions to the rule. Marking the recurring task itself as done
+ * ends it, so that none of its occurrences is upcoming any more.
+ */
+public final class Recurring extends Task {
+    /**
+     * The separator of the dates of the occurrences done in the storable string.
+     */
+    public static final String DATE_SEPARATOR = ",";
+
+    /**
+     * The last date of a rule that recurs forever in the storable string.
+     */
+    public static final String NO_END = "-";
+
+    private static final LocalDate[] NO_DATES = new LocalDate[0];
+
+    private final RecurrenceRule rule;
+
+    /**
+     * The occurrences marked as done, sorted.
+     */
+    private final LocalDate[] doneDates;
+
+    /**
+     * Initializes a new recurring task with the given description and rule.
+     *
+     * @param desc The description of the task.
+     * @param rule The dates the task happens on.
+     */
+    public Recurring(String desc, RecurrenceRule rule) {
+        this(false, desc, rule, NO_DATES);
+    }
+
+    /**
+     * Initializes a new recurring task with the given status, description, rule and occurrences done.
+     *
+     * @param isDone The status of the task as a whole.
+     * @param desc The description of the task.
+     * @param rule The dates the task happens on.
+     * @param doneDates The occurrences marked as done, in any order.
+     */
+    public Recurring(boolean isDone, String desc, RecurrenceRule rule, LocalDate[] doneDates) {
+        super(isDone, desc);
+        this.rule = rule;
+        this.doneDates = doneDates.length == 0 ? NO_DATES : doneDates.clone();
+        Arrays.sort(this.doneDates);
+    }
+
+    /**
+     * Initializes a copy of a recurring task with the given status and occurrences done.
+     *
+     * @param isDone The status of the copy.
+     * @param original The task to copy.
+     * @param doneDates The occurrences marked as done, sorted.
+     */
+    private Recurring(boolean isDone, Recurring original, LocalDate[] doneDates) {
+        super(isDone, original);
+        this.rule = original.rule;
+        this.doneDates = doneDates;
+    }
+
+    @Override
+    public Recurring markAsDone() throws TaskStatusException {
+        if (this.isDone) {
+            throw new TaskStatusException("The task is already marked as done.");
+        }
+        return new Recurring(true, this, this.doneDates);
+    }
+
+    @Override
+    public Recurring markAsNotDone() throws TaskStatusException {
+        if (!this.isDone) {
+            throw new TaskStatusException("The task is already marked as not done.");
+        }
+        return new Recurring(false, this, this.doneDates);
+    }
+
+    /**
+     * Marks a single occurrence of the task as done or not done.
+     *
+     * @param date The date of the occurrence.
+     * @param isDone The new status of the occurrence.
+     * @return A new Recurring instance with the occurrence marked, while keeping the original task unchanged.
+     * @throws TaskStatusException If the task does not recur on the date, or the occurrence is already
+     *         in the given status.
+     */
+    public Recurring markOccurrence(LocalDate date, boolean isDone) throws TaskStatusException {
+        if (!this.rule.occursOn(date)) {
+            throw new TaskStatusException("The task does not recur on that date.");
+        }
+
+        int index = Arrays.binarySearch(this.doneDates, date);
+        if (isDone == index >= 0) {
+            throw new TaskStatusException("The occurrence is already in that status.");
+        }
+
+        LocalDate[] updated;
+        if (isDone) {
+            int insertAt = -index - 1;
+            updated = new LocalDate[this.doneDates.length + 1];
+            System.arraycopy(this.doneDates, 0, updated, 0, insertAt);
+            updated[insertAt] = date;
+            System.arraycopy(this.doneDates, insertAt, updated, insertAt + 1, this.doneDates.length - insertAt);
+        } else {
+            updated = new LocalDate[this.doneDates.length - 1];
+            System.arraycopy(this.doneDates, 0, updated, 0, index);
+            System.arraycopy(this.doneDates, index + 1, updated, index, updated.length - index);
+        }
+        return new Recurring(this.isDone, this, updated);
+    }
+
+    /**
+     * Checks if the occurrence on the given date is done, either by itself or because the whole task is.
+     *
+     * @param date The date of the occurrence.
+     * @return True if the occurrence is done, false otherwise.
+     */
+    public boolean isDoneOn(LocalDate date) {
+        return this.isDone || Arrays.binarySearch(this.doneDates, date) >= 0;
+    }
+
+    /**
+     * Returns the first occurrence on or after the given date that is not done.
+     *
+     * @param from The first date to look from.
+     * @return The date of the occurrence, or null if the rule ends before one.
+     */
+    public LocalDate getNextOccurrence(LocalDate from) {
+        LocalDate next = this.rule.getNextOccurrence(from);
+        while (next != null && Arrays.binarySearch(this.doneDates, next) >= 0) {
+            next = this.rule.getNextOccurrence(next.plusDays(1));
+        }
+        return next;
+    }
+
+    /**
+     * Returns the occurrence of the task on the given date, to be listed with the tasks on that date.
+     *
+     * @param date The date of the occurrence, on which the task recurs.
+     * @return The occurrence.
+     */
+    public Occurrence getOccurrence(LocalDate date) {
+        assert this.rule.occursOn(date) : "The task does not recur on " + date;
+        return new Occurrence(this, date);
+    }
+
+    public RecurrenceRule getRule() {
+        return this.rule;
+    }
+
+    @Override
+    public String getTypeCode() {
+        return "R";
+    }
+
+    /**
+     * Returns the first occurrence, which orders the task among dated tasks.
+     *
+     * @return The start date of the rule.
+     */
+    @Override
+    public LocalDate getKeyDate() {
+        return this.rule.getStart();
+    }
+
+    @Override
+    public boolean isHappeningOnDate(LocalDate targetDate) {
+        return this.rule.occursOn(targetDate);
+    }
+
+    @Override
+    public long estimateFootprint() {
+        return super.estimateFootprint() + this.rule.estimateFootprint()
+                + (this.doneDates.length == 0 ? 0 : Footprint.ofReferenceArray(this.doneDates.length))
+                + this.doneDates.length * Footprint.LOCAL_DATE;
+    }
+
+    /**
+     * Converts the recurring task to a storable string representation: the frequency, the first date and
+     * the last date ("-" for none) of the rule, then the occurrences done, if any, separated by commas.
+     *
+     * @return A string representing the recurring task in a storable format.
+     */
+    @Override
+    public String toStorableString() {
+        String statusStr = this.isDone ? "1" : "0";
+        String formattedStart = this.rule.getStart().format(Task.DATE_INPUT_FORMATTER);
+        String formattedUntil = this.rule.getUntil() == null
+                ? NO_END
+                : this.rule.getUntil().format(Task.DATE_INPUT_FORMATTER);
+
+        String[] infos = {this.getTypeCode(), statusStr, this.desc, this.rule.getFrequency().getUnit(),
+            formattedStart, formattedUntil};
+        String combinedInfos = String.join(TaskParser.SEPARATOR, infos);
+
+        if (this.doneDates.length == 0) {
+            return combinedInfos;
+        }
+
+        StringBuilder storable = new StringBuilder(combinedInfos).append(TaskParser.SEPARATOR);
+        for (int i = 0; i < this.doneDates.length; i++) {
+            if (i > 0) {
+                storable.append(DATE_SEPARATOR);
+            }
+            storable.append(this.doneDates[i].format(Task.DATE_INPUT_FORMATTER));
+        }
+        return storable.toString();
+    }
+
+    /**
+     * Returns a string representation of the recurring task.
+     *
+     * @return Task type, status icon, description, rule and number of occurrences done of the task.
+     */
+    @Override
+    public String toString() {
+        String done = this.doneDates.length == 0 ? "" : ", " + this.doneDates.length + " done";
+        return "[R]" + super.toString() + " (" + this.rule + done + ")";
+    }
+}
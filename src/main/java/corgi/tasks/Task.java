@@ -1,7 +1,9 @@
 package corgi.tasks;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
+import corgi.memory.Footprint;
 import corgi.storage.Storable;
 /**
  * Task class storing description and status.
@@ -12,6 +14,16 @@ public abstract class Task implements Storable<Task> {
     protected final String desc;
     protected final boolean isDone;
 
+    /**
+     * The description folded by {@link TextNormalizer#fold(String)}, computed on first use.
+     */
+    private volatile String foldedDesc;
+
+    /**
+     * The words of the folded description used by fuzzy search, split on first use.
+     */
+    private volatile String[] words;
+
     /**
      * Initializes a new task with its description. The task's initial status is set to not done.
      *
@@ -23,6 +35,20 @@ public abstract class Task implements Storable<Task> {
         this.desc = desc;
     }
 
+    /**
+     * Initializes a copy of a task with the given status, reusing the search keys already computed
+     * for the original task.
+     *
+     * @param isDone The status of the copy.
+     * @param original The task to copy.
+     */
+    protected Task(boolean isDone, Task original) {
+        this.isDone = isDone;
+        this.desc = original.desc;
+        this.foldedDesc = original.foldedDesc;
+        this.words = original.words;
+    }
+
     /**
      * Marks the task as done.
      *
@@ -39,6 +65,36 @@ public abstract class Task implements Storable<Task> {
      */
     public abstract Task markAsNotDone() throws TaskStatusException;
 
+    /**
+     * Returns the one-letter code of the task type, as used in the storable string.
+     *
+     * @return "T" for todo, "D" for deadline, "E" for event and "R" for recurring task.
+     */
+    public abstract String getTypeCode();
+
+    /**
+     * Returns the date used to order the task in time, if the task has one.
+     *
+     * @return The due date of a deadline, the start date of an event, or null for tasks without a date.
+     */
+    public LocalDate getKeyDate() {
+        return null;
+    }
+
+    /**
+     * Checks if the task is happening on the specified target date.
+     *
+     * @param targetDate The date to check.
+     * @return True if the task is happening on the date, false otherwise.
+     */
+    public boolean isHappeningOnDate(LocalDate targetDate) {
+        return false;
+    }
+
+    public boolean isDone() {
+        return this.isDone;
+    }
+
     /**
      * Returns an icon representing the status of the task.
      *
@@ -58,6 +114,85 @@ public abstract class Task implements Storable<Task> {
         return this.desc.contains(keyword);
     }
 
+    /**
+     * Checks if the folded description of the task contains a keyword, ignoring case and accents.
+     *
+     * @param foldedKeyword The keyword, already folded by {@link TextNormalizer#fold(String)}.
+     * @return True if the keyword is found in the description, false otherwise.
+     */
+    public boolean containsIgnoreCase(String foldedKeyword) {
+        return this.getFoldedDescription().contains(foldedKeyword);
+    }
+
+    /**
+     * Returns the description folded by {@link TextNormalizer#fold(String)}, folding it only once per task.
+     *
+     * @return The folded description.
+     */
+    String getFoldedDescription() {
+        String result = this.foldedDesc;
+        if (result == null) {
+            result = TextNormalizer.fold(this.desc);
+            this.foldedDesc = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the words of the folded description, splitting it only once per task.
+     *
+     * @return The words of the description.
+     */
+    String[] getWords() {
+        String[] result = this.words;
+        if (result == null) {
+            result = WordIndex.splitIntoWords(this.getFoldedDescription());
+            this.words = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of dates the task holds, for estimating its size.
+     *
+     * @return The number of {@code LocalDate} fields.
+     */
+    protected int getDateCount() {
+        return 0;
+    }
+
+    /**
+     * Estimates the heap size of the task with its description, its dates and its cached search keys.
+     *
+     * @return The size in bytes.
+     */
+    public long estimateFootprint() {
+        int dateCount = this.getDateCount();
+        long size = Footprint.ofObject(3 + dateCount, 1) + dateCount * Footprint.LOCAL_DATE
+                + Footprint.ofString(this.desc);
+
+        String folded = this.foldedDesc;
+        if (folded != null && folded != this.desc) {
+            size += Footprint.ofString(folded);
+        }
+        String[] currWords = this.words;
+        if (currWords != null) {
+            size += Footprint.ofReferenceArray(currWords.length);
+            for (String word : currWords) {
+                size += Footprint.ofString(word);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Drops the search keys cached by the task. They are computed again on next use.
+     */
+    public void clearCaches() {
+        this.foldedDesc = null;
+        this.words = null;
+    }
+
     /**
      * Returns a string representation of the task.
      *
@@ -1,9 +1,11 @@
 package corgi.tasks;
 
+import corgi.UserInputException;
+
 /**
  * Custom exception class to handle errors related to Task class.
  */
-public class TaskException extends Exception {
+public class TaskException extends UserInputException {
     /**
      * Constructs a new ParsingException with the specified error message.
      *
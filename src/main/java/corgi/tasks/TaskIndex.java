@@ -0,0 +1,193 @@
+package corgi.tasks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import corgi.memory.Footprint;
+
+/**
+ * Secondary indexes over the positions of the tasks in a {@link TaskList}.
+ *
+ * Tasks are grouped by type and by status, and dated tasks are sorted by their key date
+ * (see {@link Task#getKeyDate()}). As a task list never changes, its index is built once,
+ * on first use, and shared by every query on the same list.
+ */
+public final class TaskIndex {
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Map<String, int[]> positionsByType;
+    private final int[] donePositions;
+    private final int[] undonePositions;
+    private final int[] datedPositions;
+    private final LocalDate[] sortedDates;
+
+    private TaskIndex(Map<String, int[]> positionsByType, int[] donePositions, int[] undonePositions,
+            int[] datedPositions, LocalDate[] sortedDates) {
+        this.positionsByType = positionsByType;
+        this.donePositions = donePositions;
+        this.undonePositions = undonePositions;
+        this.datedPositions = datedPositions;
+        this.sortedDates = sortedDates;
+    }
+
+    /**
+     * Builds the index of the given tasks in a single pass, plus a sort of the dated tasks.
+     *
+     * @param tasks The tasks to index.
+     * @return The index of the tasks.
+     */
+    static TaskIndex build(List<Task> tasks) {
+        int size = tasks.size();
+        Map<String, IntBuffer> byType = new HashMap<>();
+        IntBuffer done = new IntBuffer(size);
+        IntBuffer undone = new IntBuffer(size);
+        IntBuffer dated = new IntBuffer(size);
+
+        for (int i = 0; i < size; i++) {
+            Task task = tasks.get(i);
+            byType.computeIfAbsent(task.getTypeCode(), t -> new IntBuffer(16)).add(i);
+            (task.isDone() ? done : undone).add(i);
+            if (task.getKeyDate() != null) {
+                dated.add(i);
+            }
+        }
+
+        // Sort dated positions by date; positions with the same date keep their list order
+        Integer[] order = new Integer[dated.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = dated.values[i];
+        }
+        Arrays.sort(order, (a, b) -> tasks.get(a).getKeyDate().compareTo(tasks.get(b).getKeyDate()));
+
+        int[] datedPositions = new int[order.length];
+        LocalDate[] sortedDates = new LocalDate[order.length];
+        for (int i = 0; i < order.length; i++) {
+            datedPositions[i] = order[i];
+            sortedDates[i] = tasks.get(order[i]).getKeyDate();
+        }
+
+        Map<String, int[]> positionsByType = new HashMap<>();
+        byType.forEach((type, positions) -> positionsByType.put(type, positions.toArray()));
+
+        return new TaskIndex(positionsByType, done.toArray(), undone.toArray(), datedPositions, sortedDates);
+    }
+
+    /**
+     * Returns the positions of the tasks of the given type, in list order.
+     *
+     * @param typeCode The one-letter code of the type.
+     * @return The positions of the tasks.
+     */
+    public int[] getPositionsOfType(String typeCode) {
+        return this.positionsByType.getOrDefault(typeCode, NO_POSITIONS);
+    }
+
+    /**
+     * Returns the positions of the tasks with the given status, in list order.
+     *
+     * @param isDone The status of the tasks.
+     * @return The positions of the tasks.
+     */
+    public int[] getPositionsWithStatus(boolean isDone) {
+        return isDone ? this.donePositions : this.undonePositions;
+    }
+
+    /**
+     * Counts the tasks whose key date lies in the given range, in O(log n).
+     *
+     * @param from The first date of the range (inclusive), or null for no lower bound.
+     * @param to The last date of the range (exclusive), or null for no upper bound.
+     * @return The number of tasks in the range.
+     */
+    public int countInDateRange(LocalDate from, LocalDate to) {
+        return Math.max(0, this.upperIndex(to) - this.lowerIndex(from));
+    }
+
+    /**
+     * Returns the positions of the tasks whose key date lies in the given range, in list order.
+     *
+     * @param from The first date of the range (inclusive), or null for no lower bound.
+     * @param to The last date of the range (exclusive), or null for no upper bound.
+     * @return The positions of the tasks.
+     */
+    public int[] getPositionsInDateRange(LocalDate from, LocalDate to) {
+        int lower = this.lowerIndex(from);
+        int upper = this.upperIndex(to);
+
+        if (upper <= lower) {
+            return NO_POSITIONS;
+        }
+
+        int[] positions = Arrays.copyOfRange(this.datedPositions, lower, upper);
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Estimates the heap size of the index. The dates are counted with their tasks.
+     *
+     * @return The size in bytes.
+     */
+    long estimateFootprint() {
+        long size = Footprint.ofObject(5, 0) + Footprint.ofHashMap(this.positionsByType.size())
+                + Footprint.ofArray(this.donePositions.length, Integer.BYTES)
+                + Footprint.ofArray(this.undonePositions.length, Integer.BYTES)
+                + Footprint.ofArray(this.datedPositions.length, Integer.BYTES)
+                + Footprint.ofReferenceArray(this.sortedDates.length);
+        for (int[] positions : this.positionsByType.values()) {
+            size += Footprint.ofArray(positions.length, Integer.BYTES);
+        }
+        return size;
+    }
+
+    private int lowerIndex(LocalDate from) {
+        return from == null ? 0 : this.firstIndexNotBefore(from);
+    }
+
+    private int upperIndex(LocalDate to) {
+        return to == null ? this.sortedDates.length : this.firstIndexNotBefore(to);
+    }
+
+    /**
+     * Returns the index of the first sorted date that is on or after the given date.
+     */
+    private int firstIndexNotBefore(LocalDate date) {
+        int low = 0;
+        int high = this.sortedDates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.sortedDates[mid].isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A growable array of positions.
+     */
+    private static final class IntBuffer {
+        private int[] values;
+        private int size;
+
+        IntBuffer(int capacity) {
+            this.values = new int[Math.max(capacity, 1)];
+        }
+
+        void add(int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package corgi.tasks;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import corgi.memory.Footprint;
 import corgi.storage.StorableList;
 
 /**
@@ -15,11 +17,33 @@ import corgi.storage.StorableList;
 public class TaskList implements StorableList<Task> {
     private final List<Task> tasks;
 
+    /**
+     * The index of the tasks, built on first use. As the list never changes, it stays valid.
+     */
+    private volatile TaskIndex index;
+
+    /**
+     * The words of the tasks, shared with the lists derived from this one until the word index
+     * replaces it with a new vocabulary.
+     */
+    private volatile BkTree vocabulary;
+
+    /**
+     * The postings of the words of the tasks, derived from the list this one was changed from or built on first use.
+     */
+    private volatile WordIndex wordIndex;
+
+    /**
+     * The undone tasks with a date in date order, derived from the list this one was changed from
+     * or built on first use.
+     */
+    private volatile UpcomingIndex upcomingIndex;
+
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(new ArrayList<>());
     }
 
     /**
@@ -28,7 +52,12 @@ public class TaskList implements StorableList<Task> {
      * @param tasks The list of tasks to initialize the TaskList.
      */
     public TaskList(List<Task> tasks) {
+        this(tasks, new BkTree());
+    }
+
+    private TaskList(List<Task> tasks, BkTree vocabulary) {
         this.tasks = tasks;
+        this.vocabulary = vocabulary;
     }
 
     /**
@@ -40,7 +69,17 @@ public class TaskList implements StorableList<Task> {
     public TaskList add(Task t) {
         List<Task> newList = new ArrayList<>(this.tasks);
         newList.add(t);
-        return new TaskList(newList);
+
+        TaskList newTaskList = new TaskList(newList, this.vocabulary);
+        WordIndex currWordIndex = this.wordIndex;
+        if (currWordIndex != null) {
+            newTaskList.wordIndex = currWordIndex.withAppended(t);
+        }
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withAdded(t);
+        }
+        return newTaskList;
     }
 
     /**
@@ -57,7 +96,17 @@ public class TaskList implements StorableList<Task> {
         }
         List<Task> newList = new ArrayList<>(this.tasks);
         newList.remove(index);
-        return new TaskList(newList);
+
+        TaskList newTaskList = new TaskList(newList, this.vocabulary);
+        WordIndex currWordIndex = this.wordIndex;
+        if (currWordIndex != null) {
+            newTaskList.wordIndex = currWordIndex.withRemoved(index, this.tasks.get(index));
+        }
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withRemoved(this.tasks.get(index));
+        }
+        return newTaskList;
     }
 
     /**
@@ -82,7 +131,144 @@ public class TaskList implements StorableList<Task> {
 
         updatedTasks.set(index, modifiedTask);
 
-        return new TaskList(updatedTasks);
+        // Marking keeps every description at the same position, so the word index stays valid
+        TaskList newTaskList = new TaskList(updatedTasks, this.vocabulary);
+        newTaskList.wordIndex = this.wordIndex;
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withReplaced(targetTask, modifiedTask);
+        }
+        return newTaskList;
+    }
+
+    /**
+     * Marks a single occurrence of a recurring task as done or not done, and returns a new immutable TaskList
+     * with the updated task.
+     *
+     * @param index The index of the recurring task.
+     * @param date The date of the occurrence.
+     * @param isDone The new status of the occurrence.
+     * @return A new TaskList with the occurrence's status updated.
+     * @throws TaskListIndexOutOfBoundsException If the index is invalid.
+     * @throws TaskStatusException If the task is not recurring, does not recur on the date, or the occurrence
+     *         was already marked with the given status.
+     */
+    public TaskList markOccurrence(int index, LocalDate date, boolean isDone)
+            throws TaskListIndexOutOfBoundsException, TaskStatusException {
+        if (!isValidIndex(index)) {
+            throw new TaskListIndexOutOfBoundsException(index);
+        }
+
+        Task targetTask = this.tasks.get(index);
+        if (!(targetTask instanceof Recurring)) {
+            throw new TaskStatusException("Only recurring tasks have occurrences.");
+        }
+        Task modifiedTask = ((Recurring) targetTask).markOccurrence(date, isDone);
+
+        List<Task> updatedTasks = new ArrayList<>(this.tasks);
+        updatedTasks.set(index, modifiedTask);
+
+        TaskList newTaskList = new TaskList(updatedTasks, this.vocabulary);
+        newTaskList.wordIndex = this.wordIndex;
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withReplaced(targetTask, modifiedTask);
+        }
+        return newTaskList;
+    }
+
+    /**
+     * Marks the tasks at the specified indexes as done or not done in one copy of the list,
+     * and returns a new immutable TaskList with the updated tasks.
+     * Tasks already in the given status are left as they are.
+     *
+     * @param indexes The indexes of the tasks to be marked.
+     * @param isDone The new status of the tasks.
+     * @return A new TaskList with the specified tasks' status updated.
+     * @throws TaskListIndexOutOfBoundsException If an index is invalid.
+     * @throws TaskStatusException If every task was already marked with the given status.
+     */
+    public TaskList markAll(IndexRanges indexes, boolean isDone)
+            throws TaskListIndexOutOfBoundsException, TaskStatusException {
+        checkIndexes(indexes);
+
+        List<Task> updatedTasks = new ArrayList<>(this.tasks);
+        List<Task> targetTasks = new ArrayList<>();
+        List<Task> modifiedTasks = new ArrayList<>();
+
+        for (int index : indexes.toArray()) {
+            Task targetTask = updatedTasks.get(index);
+            if (targetTask.isDone() == isDone) {
+                continue;
+            }
+
+            Task modifiedTask = (isDone) ? targetTask.markAsDone() : targetTask.markAsNotDone();
+            updatedTasks.set(index, modifiedTask);
+            targetTasks.add(targetTask);
+            modifiedTasks.add(modifiedTask);
+        }
+
+        if (modifiedTasks.isEmpty()) {
+            throw new TaskStatusException("All the tasks are already in that status.");
+        }
+
+        TaskList newTaskList = new TaskList(updatedTasks, this.vocabulary);
+        newTaskList.wordIndex = this.wordIndex;
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withChanges(targetTasks, modifiedTasks);
+        }
+        return newTaskList;
+    }
+
+    /**
+     * Removes the tasks at the specified indexes in one copy of the list, and returns a new immutable TaskList
+     * without the removed tasks.
+     *
+     * @param indexes The indexes of the tasks to be removed.
+     * @return A new TaskList with the specified tasks removed.
+     * @throws TaskListIndexOutOfBoundsException If an index is invalid.
+     */
+    public TaskList removeAll(IndexRanges indexes) throws TaskListIndexOutOfBoundsException {
+        checkIndexes(indexes);
+
+        int[] targetIndexes = indexes.toArray();
+        List<Task> newList = new ArrayList<>(this.tasks.size() - targetIndexes.length);
+        List<Task> removedTasks = new ArrayList<>(targetIndexes.length);
+
+        int next = 0;
+        for (int i = 0; i < this.tasks.size(); i++) {
+            if (next < targetIndexes.length && targetIndexes[next] == i) {
+                removedTasks.add(this.tasks.get(i));
+                next++;
+            } else {
+                newList.add(this.tasks.get(i));
+            }
+        }
+
+        TaskList newTaskList = new TaskList(newList, this.vocabulary);
+
+        // Remove from the last index so that the indexes still to be removed do not shift
+        WordIndex currWordIndex = this.wordIndex;
+        for (int i = targetIndexes.length - 1; i >= 0 && currWordIndex != null; i--) {
+            currWordIndex = currWordIndex.withRemoved(targetIndexes[i], this.tasks.get(targetIndexes[i]));
+        }
+        newTaskList.wordIndex = currWordIndex;
+
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null) {
+            newTaskList.upcomingIndex = currUpcomingIndex.withChanges(removedTasks, new ArrayList<>());
+        }
+        return newTaskList;
+    }
+
+    private void checkIndexes(IndexRanges indexes) throws TaskListIndexOutOfBoundsException {
+        if (!isValidIndex(indexes.getFirst())) {
+            throw new TaskListIndexOutOfBoundsException(indexes.getFirst());
+        }
+        if (!isValidIndex(indexes.getLast())) {
+            throw new TaskListIndexOutOfBoundsException(indexes.getLast());
+        }
     }
 
     /**
@@ -116,7 +302,109 @@ public class TaskList implements StorableList<Task> {
                 .filter(predicate)
                 .collect(Collectors.toList());
 
-        return new TaskList(filteredList);
+        return new TaskList(filteredList, this.vocabulary);
+    }
+
+    /**
+     * Returns a new TaskList with the tasks at the given positions, in the given order.
+     *
+     * @param positions The positions of the tasks to select.
+     * @return A new TaskList containing the selected tasks.
+     */
+    public TaskList select(int[] positions) {
+        List<Task> selectedList = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            selectedList.add(this.tasks.get(position));
+        }
+        return new TaskList(selectedList, this.vocabulary);
+    }
+
+    /**
+     * Returns the task at the specified index.
+     *
+     * @param index The index of the task.
+     * @return The task at the index.
+     * @throws IndexOutOfBoundsException If the index is invalid.
+     */
+    public Task get(int index) {
+        return this.tasks.get(index);
+    }
+
+    /**
+     * Returns the index of the tasks in the TaskList, building it on first use.
+     *
+     * @return The index of the tasks.
+     */
+    public TaskIndex getIndex() {
+        TaskIndex result = this.index;
+        if (result == null) {
+            // Concurrent callers may each build an index; all of them are equivalent
+            result = TaskIndex.build(this.tasks);
+            this.index = result;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the tasks using a word within the given edit distance of the query word,
+     * building the word index on first use.
+     *
+     * @param query The query word, folded by {@link TextNormalizer#fold(String)}.
+     * @param maxDistance The largest edit distance of the words to find.
+     * @param consumer The consumer of the positions of the tasks found.
+     */
+    public void searchWords(String query, int maxDistance, WordIndex.MatchConsumer consumer) {
+        this.getWordIndex().search(this.tasks, query, maxDistance, consumer);
+    }
+
+    /**
+     * Returns the word index of the tasks in the TaskList, building it on first use.
+     *
+     * @return The word index of the tasks.
+     */
+    WordIndex getWordIndex() {
+        WordIndex result = this.wordIndex;
+        if (result == null) {
+            result = WordIndex.build(this.tasks, this.vocabulary);
+            this.vocabulary = result.getVocabulary();
+            this.wordIndex = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tasks happening on the given date, with recurring tasks replaced by their occurrence
+     * on that date.
+     *
+     * @param date The date.
+     * @return A new TaskList with the tasks, in list order.
+     */
+    public TaskList getOnDate(LocalDate date) {
+        List<Task> tasksOnDate = new ArrayList<>();
+        for (Task task : this.tasks) {
+            if (!task.isHappeningOnDate(date)) {
+                continue;
+            }
+            tasksOnDate.add(task instanceof Recurring ? ((Recurring) task).getOccurrence(date) : task);
+        }
+        return new TaskList(tasksOnDate, this.vocabulary);
+    }
+
+    /**
+     * Returns the first undone deadlines, events and occurrences of recurring tasks whose date is on or after
+     * the given date, building the upcoming index on first use.
+     *
+     * @param from The first date.
+     * @param count The largest number of tasks to return, at most {@link UpcomingIndex#MAX_COUNT}.
+     * @return A new TaskList with the tasks, earliest first.
+     */
+    public TaskList getUpcoming(LocalDate from, int count) {
+        UpcomingIndex result = this.upcomingIndex;
+        if (result == null) {
+            result = UpcomingIndex.build(this.tasks);
+            this.upcomingIndex = result;
+        }
+        return new TaskList(result.getUpcoming(from, count), this.vocabulary);
     }
 
     /**
@@ -149,11 +437,62 @@ public class TaskList implements StorableList<Task> {
      */
     @Override
     public String getStorableString() {
-        String storableString = "";
+        StringBuilder storableString = new StringBuilder();
+        for (Task task : this.tasks) {
+            storableString.append(task.toStorableString()).append('\n');
+        }
+        return storableString.toString();
+    }
+
+    /**
+     * Estimates the heap size of the list itself: this object and the array of its tasks, without the tasks
+     * and the caches.
+     *
+     * @return The size in bytes.
+     */
+    public long estimateListFootprint() {
+        return Footprint.ofObject(5, 0) + Footprint.ofArrayList(this.tasks.size());
+    }
+
+    /**
+     * Estimates the heap size of the indexes built for searching the list, counting only those not
+     * counted before in the given estimate, as derived lists share some of them.
+     *
+     * @param footprint The estimate the caches are counted in.
+     * @return The size in bytes.
+     */
+    public long estimateCacheFootprint(Footprint footprint) {
+        long size = 0;
+
+        TaskIndex currIndex = this.index;
+        if (currIndex != null && footprint.add(currIndex)) {
+            size += currIndex.estimateFootprint();
+        }
+        WordIndex currWordIndex = this.wordIndex;
+        if (currWordIndex != null && footprint.add(currWordIndex)) {
+            size += currWordIndex.estimateFootprint(footprint);
+        }
+        UpcomingIndex currUpcomingIndex = this.upcomingIndex;
+        if (currUpcomingIndex != null && footprint.add(currUpcomingIndex)) {
+            size += currUpcomingIndex.estimateFootprint();
+        }
+        if (footprint.add(this.vocabulary)) {
+            size += this.vocabulary.estimateFootprint();
+        }
+        return size;
+    }
+
+    /**
+     * Drops the indexes of the list and the search keys cached by its tasks, to free memory.
+     * They are built again on next use, so the list behaves the same, only slower at first.
+     */
+    public void clearCaches() {
+        this.index = null;
+        this.wordIndex = null;
+        this.upcomingIndex = null;
         for (Task task : this.tasks) {
-            storableString += task.toStorableString() + "\n";
+            task.clearCaches();
         }
-        return storableString;
     }
 
     /**
@@ -163,13 +502,13 @@ public class TaskList implements StorableList<Task> {
      */
     @Override
     public String toString() {
-        String s = "";
+        StringBuilder s = new StringBuilder();
         for (int i = 0; i < this.tasks.size(); i++) {
-            s += (i + 1) + ") " + this.tasks.get(i);
-            if (i < this.tasks.size() - 1) {
-                s += "\n";
+            if (i > 0) {
+                s.append('\n');
             }
+            s.append(i + 1).append(") ").append(this.tasks.get(i));
         }
-        return s;
+        return s.toString();
     }
 }
@@ -0,0 +1,46 @@
+package corgi.tasks;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text into a form for case-insensitive and accent-insensitive comparison.
+ */
+public final class TextNormalizer {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Folds the given text: compatibility characters such as ligatures and full-width letters are replaced
+     * by their plain forms (NFKC), accents are removed and every letter is put in lower case.
+     * ASCII text without upper-case letters is returned as it is, without any allocation.
+     *
+     * @param text The text to fold.
+     * @return The folded text.
+     */
+    public static String fold(String text) {
+        if (isFolded(text)) {
+            return text;
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String composed = Normalizer.normalize(withoutMarks, Normalizer.Form.NFKC);
+
+        // Upper-casing first folds letters such as the German sharp s into their multi-letter forms
+        return composed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isFolded(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -24,12 +24,22 @@ public final class ToDo extends Task {
         super(isDone, desc);
     }
 
+    /**
+     * Initializes a copy of a todo task with the given status.
+     *
+     * @param isDone The status of the copy.
+     * @param original The task to copy.
+     */
+    private ToDo(boolean isDone, ToDo original) {
+        super(isDone, original);
+    }
+
     @Override
     public ToDo markAsDone() throws TaskStatusException {
         if (this.isDone) {
             throw new TaskStatusException("The task is already marked as done.");
         }
-        return new ToDo(true, desc);
+        return new ToDo(true, this);
     }
 
     @Override
@@ -37,7 +47,12 @@ public final class ToDo extends Task {
         if (!this.isDone) {
             throw new TaskStatusException("The task is already marked as not done.");
         }
-        return new ToDo(false, desc);
+        return new ToDo(false, this);
+    }
+
+    @Override
+    public String getTypeCode() {
+        return "T";
     }
 
     /**
@@ -49,7 +64,7 @@ public final class ToDo extends Task {
     public String toStorableString() {
         String statusStr = this.isDone ? "1" : "0";
 
-        String[] infos = {"T", statusStr, this.desc};
+        String[] infos = {this.getTypeCode(), statusStr, this.desc};
         String combinedInfos = String.join(TaskParser.SEPARATOR, infos);
 
         return combinedInfos;
@@ -0,0 +1,305 @@
+package corgi.tasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import corgi.memory.Footprint;
+
+/**
+ * The undone deadlines and events of a {@link TaskList}, sorted by their key date
+ * (see {@link Task#getKeyDate()}), so that the next tasks from a date are found in O(log n + k).
+ *
+ * Tasks on the same date are ordered by type and description, which does not depend on their position
+ * and lets the index of a changed list be derived from the index of the original list with a single copy.
+ *
+ * Recurring tasks are kept apart, as their next occurrence depends on the date asked for. Their occurrences
+ * are merged into the sorted tasks as the upcoming tasks are read, one occurrence of each recurring task ahead,
+ * so that at most as many occurrences as tasks asked for are ever created.
+ */
+public final class UpcomingIndex {
+    /**
+     * The largest number of upcoming tasks returned at once. An open-ended recurring task has endless occurrences,
+     * so the count is all that bounds the list.
+     */
+    public static final int MAX_COUNT = 1000;
+
+    private static final Comparator<Task> ORDER = Comparator.comparing(Task::getKeyDate)
+            .thenComparing(Task::getTypeCode)
+            .thenComparing(t -> t.desc);
+
+    private static final Recurring[] NO_RECURRING = new Recurring[0];
+
+    private final Task[] tasks;
+    private final Recurring[] recurring;
+
+    private UpcomingIndex(Task[] tasks, Recurring[] recurring) {
+        this.tasks = tasks;
+        this.recurring = recurring;
+    }
+
+    /**
+     * Builds the index of the given tasks.
+     *
+     * @param tasks The tasks to index.
+     * @return The index of the undone tasks with a date.
+     */
+    static UpcomingIndex build(List<Task> tasks) {
+        Task[] upcoming = tasks.stream()
+                .filter(UpcomingIndex::isUpcoming)
+                .toArray(Task[]::new);
+        Arrays.sort(upcoming, ORDER);
+        Recurring[] recurring = tasks.stream()
+                .filter(UpcomingIndex::isRecurring)
+                .toArray(Recurring[]::new);
+        return new UpcomingIndex(upcoming, recurring);
+    }
+
+    /**
+     * Returns the index of the list with the given task added.
+     *
+     * @param task The task added to the list.
+     * @return The index of the new list.
+     */
+    UpcomingIndex withAdded(Task task) {
+        if (isRecurring(task)) {
+            Recurring[] updated = Arrays.copyOf(this.recurring, this.recurring.length + 1);
+            updated[this.recurring.length] = (Recurring) task;
+            return new UpcomingIndex(this.tasks, updated);
+        }
+        if (!isUpcoming(task)) {
+            return this;
+        }
+
+        // Insert after the tasks that compare equal, so that they keep the order in which they were added
+        int insertAt = this.upperBound(task);
+        Task[] updated = new Task[this.tasks.length + 1];
+        System.arraycopy(this.tasks, 0, updated, 0, insertAt);
+        updated[insertAt] = task;
+        System.arraycopy(this.tasks, insertAt, updated, insertAt + 1, this.tasks.length - insertAt);
+        return new UpcomingIndex(updated, this.recurring);
+    }
+
+    /**
+     * Returns the index of the list with the given task removed.
+     *
+     * @param task The task removed from the list.
+     * @return The index of the new list.
+     */
+    UpcomingIndex withRemoved(Task task) {
+        if (task instanceof Recurring) {
+            return this.withChanges(Collections.singletonList(task), Collections.emptyList());
+        }
+
+        int index = this.indexOf(task);
+        if (index < 0) {
+            return this;
+        }
+
+        Task[] updated = new Task[this.tasks.length - 1];
+        System.arraycopy(this.tasks, 0, updated, 0, index);
+        System.arraycopy(this.tasks, index + 1, updated, index, updated.length - index);
+        return new UpcomingIndex(updated, this.recurring);
+    }
+
+    /**
+     * Returns the index of the list with a task replaced, such as by a copy with another status.
+     *
+     * @param oldTask The task replaced.
+     * @param newTask The task replacing it.
+     * @return The index of the new list.
+     */
+    UpcomingIndex withReplaced(Task oldTask, Task newTask) {
+        return this.withRemoved(oldTask).withAdded(newTask);
+    }
+
+    /**
+     * Returns the index of the list with many tasks removed and added, in a single copy.
+     *
+     * @param removedTasks The tasks removed from the list.
+     * @param addedTasks The tasks added to the list, such as copies of removed tasks with another status.
+     * @return The index of the new list.
+     */
+    UpcomingIndex withChanges(List<Task> removedTasks, List<Task> addedTasks) {
+        Set<Task> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(removedTasks);
+
+        Task[] added = addedTasks.stream()
+                .filter(UpcomingIndex::isUpcoming)
+                .toArray(Task[]::new);
+        Arrays.sort(added, ORDER);
+
+        // Merge the kept tasks with the added ones; on ties, the kept tasks come first as in withAdded
+        Task[] updated = new Task[this.tasks.length + added.length];
+        int count = 0;
+        int nextAdded = 0;
+        for (Task task : this.tasks) {
+            if (removed.contains(task)) {
+                continue;
+            }
+            while (nextAdded < added.length && ORDER.compare(added[nextAdded], task) < 0) {
+                updated[count++] = added[nextAdded++];
+            }
+            updated[count++] = task;
+        }
+        while (nextAdded < added.length) {
+            updated[count++] = added[nextAdded++];
+        }
+
+        List<Recurring> updatedRecurring = new ArrayList<>(this.recurring.length);
+        for (Recurring task : this.recurring) {
+            if (!removed.contains(task)) {
+                updatedRecurring.add(task);
+            }
+        }
+        for (Task task : addedTasks) {
+            if (isRecurring(task)) {
+                updatedRecurring.add((Recurring) task);
+            }
+        }
+
+        return new UpcomingIndex(Arrays.copyOf(updated, count), updatedRecurring.toArray(NO_RECURRING));
+    }
+
+    /**
+     * Returns the first undone tasks whose key date is on or after the given date, with the undone occurrences
+     * of the recurring tasks from that date.
+     *
+     * @param from The first date.
+     * @param count The largest number of tasks to return, at most {@link #MAX_COUNT}.
+     * @return The tasks, earliest first.
+     */
+    public List<Task> getUpcoming(LocalDate from, int count) {
+        count = Math.min(count, MAX_COUNT);
+        int start = this.firstIndexNotBefore(from);
+        int end = (int) Math.min((long) start + count, this.tasks.length);
+
+        if (this.recurring.length == 0) {
+            if (start >= end) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(Arrays.asList(this.tasks).subList(start, end));
+        }
+
+        // The next occurrence of each recurring task, earliest first
+        PriorityQueue<Occurrence> occurrences = new PriorityQueue<>(this.recurring.length, ORDER);
+        for (Recurring task : this.recurring) {
+            LocalDate date = task.getNextOccurrence(from);
+            if (date != null) {
+                occurrences.add(task.getOccurrence(date));
+            }
+        }
+
+        List<Task> upcoming = new ArrayList<>();
+        int next = start;
+        while (upcoming.size() < count && (next < end || !occurrences.isEmpty())) {
+            if (occurrences.isEmpty() || (next < end && ORDER.compare(this.tasks[next], occurrences.peek()) <= 0)) {
+                upcoming.add(this.tasks[next++]);
+                continue;
+            }
+
+            Occurrence occurrence = occurrences.poll();
+            upcoming.add(occurrence);
+            Recurring series = occurrence.getSeries();
+            LocalDate date = series.getNextOccurrence(occurrence.getKeyDate().plusDays(1));
+            if (date != null) {
+                occurrences.add(series.getOccurrence(date));
+            }
+        }
+        return upcoming;
+    }
+
+    /**
+     * Returns the number of undone deadlines, events and recurring tasks in the index.
+     *
+     * @return The number of tasks.
+     */
+    public int size() {
+        return this.tasks.length + this.recurring.length;
+    }
+
+    /**
+     * Estimates the heap size of the index. The tasks are counted with their list.
+     *
+     * @return The size in bytes.
+     */
+    long estimateFootprint() {
+        return Footprint.ofObject(2, 0) + Footprint.ofReferenceArray(this.tasks.length)
+                + (this.recurring.length == 0 ? 0 : Footprint.ofReferenceArray(this.recurring.length));
+    }
+
+    /**
+     * Checks if the task belongs to the sorted tasks of the index.
+     */
+    private static boolean isUpcoming(Task task) {
+        return !task.isDone() && task.getKeyDate() != null && !(task instanceof Recurring);
+    }
+
+    private static boolean isRecurring(Task task) {
+        return !task.isDone() && task instanceof Recurring;
+    }
+
+    /**
+     * Returns the position of the given task, compared by identity, or -1 if it is not in the index.
+     */
+    private int indexOf(Task task) {
+        if (!isUpcoming(task)) {
+            return -1;
+        }
+
+        for (int i = this.lowerBound(task); i < this.tasks.length && ORDER.compare(this.tasks[i], task) == 0; i++) {
+            if (this.tasks[i] == task) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(Task task) {
+        int low = 0;
+        int high = this.tasks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ORDER.compare(this.tasks[mid], task) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(Task task) {
+        int low = 0;
+        int high = this.tasks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ORDER.compare(this.tasks[mid], task) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstIndexNotBefore(LocalDate date) {
+        int low = 0;
+        int high = this.tasks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.tasks[mid].getKeyDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,366 @@
+package corgi.tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import corgi.memory.Footprint;
+
+/**
+ * An index of the words in the descriptions of the tasks in a {@link TaskList}, for typo-tolerant search.
+ *
+ * The words themselves are kept in a {@link BkTree} shared by every task list derived from the same original
+ * list, so finding the words close to a query word never compares it with every task. Words made only of digits
+ * are kept out of the tree and only matched exactly, as a typo in a number is rarely a typo.
+ *
+ * The postings map each word to the positions of the tasks using it, as of the list the index was built for.
+ * The index of a derived list is not rebuilt: tasks added since are kept as a short tail that is checked
+ * directly, and positions removed since are skipped and shifted when the postings are read. Once too many
+ * changes are pending, the next search rebuilds the postings in a single pass.
+ *
+ * Removing the last task using a word leaves the word in the vocabulary, where searches still walk it.
+ * The index counts these unused words, and once they make up too much of the vocabulary, the next search
+ * rebuilds the index with a new vocabulary holding only the words still in use.
+ */
+public final class WordIndex {
+    /**
+     * The largest number of tasks added or removed since the postings were built.
+     */
+    private static final int MAX_PENDING_CHANGES = 256;
+
+    /**
+     * The number of unused words always tolerated, so that a small vocabulary is not rebuilt on every removal.
+     */
+    private static final int MIN_UNUSED_WORDS = 64;
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Map<String, int[]> postings;
+    private final BkTree vocabulary;
+
+    /**
+     * The positions of the postings removed since they were built, in ascending order.
+     */
+    private final int[] removedPositions;
+
+    /**
+     * The number of tasks covered by the postings, removed ones excluded.
+     * The tasks from this position onwards were added since the postings were built.
+     */
+    private final int tailStart;
+
+    /**
+     * The number of tasks in the list.
+     */
+    private final int size;
+
+    /**
+     * The number of words of the vocabulary that no task of the list uses any more, as far as known.
+     */
+    private final int unusedWords;
+
+    private WordIndex(Map<String, int[]> postings, BkTree vocabulary, int[] removedPositions, int tailStart,
+            int size, int unusedWords) {
+        this.postings = postings;
+        this.vocabulary = vocabulary;
+        this.removedPositions = removedPositions;
+        this.tailStart = tailStart;
+        this.size = size;
+        this.unusedWords = unusedWords;
+    }
+
+    /**
+     * A consumer of the tasks found by a search.
+     */
+    public interface MatchConsumer {
+        /**
+         * Accepts a task using a word close to the query word. A task using several close words is
+         * accepted once per word.
+         *
+         * @param position The position of the task in the list.
+         * @param distance The edit distance between the word and the query word.
+         */
+        void accept(int position, int distance);
+    }
+
+    /**
+     * Builds the postings of the given tasks and adds their words to the shared vocabulary.
+     * If too many words of the vocabulary are no longer used by the tasks, a new vocabulary is started instead.
+     *
+     * @param tasks The tasks to index.
+     * @param vocabulary The vocabulary shared by the task list and the lists derived from it.
+     * @return The index of the tasks.
+     */
+    static WordIndex build(List<Task> tasks, BkTree vocabulary) {
+        Map<String, PositionBuffer> buffers = new HashMap<>();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            for (String word : tasks.get(i).getWords()) {
+                PositionBuffer buffer = buffers.get(word);
+                if (buffer == null) {
+                    buffer = new PositionBuffer();
+                    buffers.put(word, buffer);
+                }
+                buffer.add(i);
+            }
+        }
+
+        int knownWords = 0;
+        for (String word : buffers.keySet()) {
+            if (!isNumber(word) && vocabulary.contains(word)) {
+                knownWords++;
+            }
+        }
+        int unusedWords = vocabulary.size() - knownWords;
+        BkTree newVocabulary = vocabulary;
+        if (hasTooManyUnusedWords(unusedWords, vocabulary.size())) {
+            newVocabulary = new BkTree();
+            unusedWords = 0;
+        }
+
+        Map<String, int[]> postings = new HashMap<>(buffers.size() * 2);
+        for (Map.Entry<String, PositionBuffer> entry : buffers.entrySet()) {
+            postings.put(entry.getKey(), entry.getValue().toArray());
+            insertIntoVocabulary(newVocabulary, entry.getKey());
+        }
+        return new WordIndex(postings, newVocabulary, NO_POSITIONS, tasks.size(), tasks.size(), unusedWords);
+    }
+
+    /**
+     * Returns the index of the list with the given task appended, or null if it is due for a rebuild.
+     *
+     * @param task The task appended to the list.
+     * @return The index of the new list.
+     */
+    WordIndex withAppended(Task task) {
+        if (this.getPendingChanges() >= MAX_PENDING_CHANGES) {
+            return null;
+        }
+
+        for (String word : task.getWords()) {
+            insertIntoVocabulary(this.vocabulary, word);
+        }
+        return new WordIndex(this.postings, this.vocabulary, this.removedPositions, this.tailStart, this.size + 1,
+                this.unusedWords);
+    }
+
+    /**
+     * Returns the index of the list with the task at the given position removed, or null if it is due
+     * for a rebuild.
+     *
+     * @param position The position of the removed task.
+     * @param task The removed task.
+     * @return The index of the new list.
+     */
+    WordIndex withRemoved(int position, Task task) {
+        if (this.getPendingChanges() >= MAX_PENDING_CHANGES || position >= this.tailStart) {
+            // Removing a task of the tail would shift the tail itself; rebuild instead
+            return null;
+        }
+
+        int postingsPosition = this.toPostingsPosition(position);
+        int insertAt = -Arrays.binarySearch(this.removedPositions, postingsPosition) - 1;
+
+        int[] removed = new int[this.removedPositions.length + 1];
+        System.arraycopy(this.removedPositions, 0, removed, 0, insertAt);
+        removed[insertAt] = postingsPosition;
+        System.arraycopy(this.removedPositions, insertAt, removed, insertAt + 1,
+                this.removedPositions.length - insertAt);
+
+        // Words used by the tail only are counted as unused too, which at worst rebuilds a little early
+        int newUnusedWords = this.unusedWords;
+        String[] words = task.getWords();
+        for (int i = 0; i < words.length; i++) {
+            if (!isNumber(words[i]) && isFirstOccurrence(words, i) && !this.isUsedInPostings(words[i], removed)) {
+                newUnusedWords++;
+            }
+        }
+        if (hasTooManyUnusedWords(newUnusedWords, this.vocabulary.size())) {
+            return null;
+        }
+
+        return new WordIndex(this.postings, this.vocabulary, removed, this.tailStart - 1, this.size - 1,
+                newUnusedWords);
+    }
+
+    BkTree getVocabulary() {
+        return this.vocabulary;
+    }
+
+    /**
+     * Splits a text folded by {@link TextNormalizer#fold(String)} into its words, made of letters and digits.
+     *
+     * @param text The folded text to split.
+     * @return The words of the text, in order.
+     */
+    public static String[] splitIntoWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Finds the tasks using a word within the given edit distance of the query word.
+     *
+     * @param tasks The task list this index belongs to.
+     * @param query The query word, folded.
+     * @param maxDistance The largest edit distance of the words to find.
+     * @param consumer The consumer of the tasks found.
+     */
+    void search(List<Task> tasks, String query, int maxDistance, MatchConsumer consumer) {
+        assert tasks.size() == this.size : "The index belongs to another task list.";
+
+        Map<String, Integer> closeWords = new HashMap<>();
+        if (isNumber(query)) {
+            closeWords.put(query, 0);
+        } else {
+            this.vocabulary.search(query, maxDistance, closeWords::put);
+        }
+
+        for (Map.Entry<String, Integer> entry : closeWords.entrySet()) {
+            int distance = entry.getValue();
+            for (int postingsPosition : this.postings.getOrDefault(entry.getKey(), NO_POSITIONS)) {
+                int position = this.toListPosition(postingsPosition);
+                if (position >= 0) {
+                    consumer.accept(position, distance);
+                }
+            }
+        }
+
+        for (int position = this.tailStart; position < tasks.size(); position++) {
+            for (String word : tasks.get(position).getWords()) {
+                Integer distance = closeWords.get(word);
+                if (distance != null) {
+                    consumer.accept(position, distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Estimates the heap size of the index, counting the postings only if they are not shared with an index
+     * counted before. The words are counted with their tasks, and the vocabulary with the task list.
+     *
+     * @param footprint The estimate the index is counted in.
+     * @return The size in bytes.
+     */
+    long estimateFootprint(Footprint footprint) {
+        long size = Footprint.ofObject(3, 2 * Integer.BYTES);
+        if (this.removedPositions.length > 0) {
+            size += Footprint.ofArray(this.removedPositions.length, Integer.BYTES);
+        }
+        if (footprint.add(this.postings)) {
+            size += Footprint.ofHashMap(this.postings.size());
+            for (int[] positions : this.postings.values()) {
+                size += Footprint.ofArray(positions.length, Integer.BYTES);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Checks if a task of the postings not in the given removed positions uses the word.
+     */
+    private boolean isUsedInPostings(String word, int[] removed) {
+        for (int postingsPosition : this.postings.getOrDefault(word, NO_POSITIONS)) {
+            if (Arrays.binarySearch(removed, postingsPosition) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFirstOccurrence(String[] words, int index) {
+        for (int i = 0; i < index; i++) {
+            if (words[i].equals(words[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTooManyUnusedWords(int unusedWords, int vocabularySize) {
+        return unusedWords > MIN_UNUSED_WORDS && unusedWords * 4 > vocabularySize;
+    }
+
+    private int getPendingChanges() {
+        return this.removedPositions.length + this.size - this.tailStart;
+    }
+
+    /**
+     * Maps a position in the current list, before the tail, to its position in the postings.
+     */
+    private int toPostingsPosition(int position) {
+        int result = position;
+        for (int removed : this.removedPositions) {
+            if (removed <= result) {
+                result++;
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps a position in the postings to its position in the current list, or -1 if it was removed.
+     */
+    private int toListPosition(int postingsPosition) {
+        if (this.removedPositions.length == 0) {
+            return postingsPosition;
+        }
+
+        int index = Arrays.binarySearch(this.removedPositions, postingsPosition);
+        return index >= 0 ? -1 : postingsPosition + index + 1;
+    }
+
+    private static void insertIntoVocabulary(BkTree vocabulary, String word) {
+        if (!isNumber(word)) {
+            vocabulary.insert(word);
+        }
+    }
+
+    private static boolean isNumber(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isDigit(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A growable array of positions, ignoring a position added twice in a row.
+     */
+    private static final class PositionBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (this.size > 0 && this.values[this.size - 1] == position) {
+                return;
+            }
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package corgi.tenant;
+
+/**
+ * Represents an exception that is thrown when a user id cannot be used as a tenant.
+ */
+public class InvalidTenantException extends Exception {
+    /**
+     * Initializes a new InvalidTenantException with the specified error message.
+     *
+     * @param msg The error message describing the cause of the exception.
+     */
+    public InvalidTenantException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,53 @@
+package corgi.tenant;
+
+import corgi.Corgi;
+
+/**
+ * A user's chatbot instance held by the {@link TenantRegistry}.
+ * Commands for a tenant must be executed while holding the tenant's monitor.
+ */
+final class Tenant {
+    private final Corgi corgi;
+    private boolean isEvicted;
+    private volatile int taskCount;
+
+    Tenant(Corgi corgi) {
+        this.corgi = corgi;
+        this.isEvicted = false;
+        this.taskCount = corgi.getTaskCount();
+    }
+
+    Corgi getCorgi() {
+        return this.corgi;
+    }
+
+    boolean isEvicted() {
+        return this.isEvicted;
+    }
+
+    /**
+     * Returns the number of tasks as of the last command, so it can be read without the tenant's monitor.
+     */
+    int getTaskCount() {
+        return this.taskCount;
+    }
+
+    /**
+     * Records the current number of tasks. Must be called while holding the tenant's monitor.
+     */
+    void updateTaskCount() {
+        this.taskCount = this.corgi.getTaskCount();
+    }
+
+    /**
+     * Stores the tenant's task list and marks the tenant as no longer usable.
+     * Does nothing if the tenant was already evicted.
+     */
+    synchronized void flushAndEvict() {
+        if (this.isEvicted) {
+            return;
+        }
+        this.corgi.save();
+        this.isEvicted = true;
+    }
+}
@@ -0,0 +1,259 @@
+package corgi.tenant;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import corgi.Corgi;
+
+/**
+ * A registry of chatbot instances keyed by user, so that one process can serve many users.
+ *
+ * Every user gets their own data file and state. Task lists are loaded lazily on first access
+ * and kept in a least-recently-used cache that is bounded both by the number of resident users
+ * and by the total number of resident tasks. Evicted users are saved before being dropped
+ * and are loaded again from their file on the next access. Task lists are loaded and saved
+ * outside the registry's lock, so one user's file I/O does not hold up the other users.
+ */
+public class TenantRegistry {
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final String DATA_FILE_NAME = "tasks.txt";
+
+    private final String dataDirectory;
+    private final int maxTenants;
+    private final long maxResidentTasks;
+    private final LinkedHashMap<String, Tenant> tenants;
+    private final ConcurrentHashMap<String, CompletableFuture<Tenant>> loads;
+    private final ConcurrentHashMap<String, Tenant> evicting;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new registry.
+     *
+     * @param dataDirectory The directory under which every user gets a sub-directory for their data.
+     * @param maxTenants The maximum number of users kept in memory.
+     * @param maxResidentTasks The maximum number of tasks kept in memory across all users.
+     */
+    public TenantRegistry(String dataDirectory, int maxTenants, long maxResidentTasks) {
+        assert maxTenants > 0 : "At least one tenant must fit in the cache";
+
+        this.dataDirectory = dataDirectory;
+        this.maxTenants = maxTenants;
+        this.maxResidentTasks = maxResidentTasks;
+        this.tenants = new LinkedHashMap<>(16, 0.75f, true);
+        this.loads = new ConcurrentHashMap<>();
+        this.evicting = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Passes the input to the given user's chatbot and returns its response.
+     *
+     * @param userId The id of the user.
+     * @param input The command text.
+     * @return The response of the chatbot.
+     * @throws InvalidTenantException If the user id is not valid.
+     */
+    public String getResponse(String userId, String input) throws InvalidTenantException {
+        return this.withTenant(userId, corgi -> corgi.getResponse(input));
+    }
+
+    /**
+     * Returns the introductory message of the given user's chatbot.
+     *
+     * @param userId The id of the user.
+     * @return The introductory message.
+     * @throws InvalidTenantException If the user id is not valid.
+     */
+    public String getIntro(String userId) throws InvalidTenantException {
+        return this.withTenant(userId, Corgi::getIntro);
+    }
+
+    /**
+     * Applies the action to the given user's chatbot, loading it first if needed.
+     * Actions on the same user run one at a time; actions on different users may run concurrently.
+     *
+     * @param userId The id of the user.
+     * @param action The action to apply.
+     * @param <T> The type of the result.
+     * @return The result of the action.
+     * @throws InvalidTenantException If the user id is not valid.
+     */
+    public <T> T withTenant(String userId, Function<Corgi, T> action) throws InvalidTenantException {
+        if (!USER_ID_PATTERN.matcher(userId).matches()) {
+            throw new InvalidTenantException("Invalid user id: " + userId);
+        }
+
+        while (true) {
+            Tenant tenant = this.acquire(userId);
+            T result;
+
+            synchronized (tenant) {
+                // The tenant may have been evicted after it was acquired; load it again if so.
+                if (tenant.isEvicted()) {
+                    continue;
+                }
+                try {
+                    result = action.apply(tenant.getCorgi());
+                } finally {
+                    tenant.updateTaskCount();
+                }
+            }
+
+            this.trimToBudget(tenant);
+            return result;
+        }
+    }
+
+    /**
+     * Returns the loaded tenant of the user, loading it first if needed.
+     * Only one thread loads a given user; other threads asking for the same user wait for that load,
+     * while requests for users already loaded are not held up by it.
+     */
+    private Tenant acquire(String userId) {
+        synchronized (this) {
+            Tenant tenant = this.tenants.get(userId);
+            if (tenant != null) {
+                this.hits++;
+                return tenant;
+            }
+        }
+
+        CompletableFuture<Tenant> load = new CompletableFuture<>();
+        CompletableFuture<Tenant> pendingLoad = this.loads.putIfAbsent(userId, load);
+        if (pendingLoad != null) {
+            return pendingLoad.join();
+        }
+
+        try {
+            Tenant tenant = this.load(userId);
+            load.complete(tenant);
+            return tenant;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loads.remove(userId, load);
+        }
+    }
+
+    private Tenant load(String userId) {
+        synchronized (this) {
+            // Another thread may have finished loading the user between the lookup and claiming the load.
+            Tenant tenant = this.tenants.get(userId);
+            if (tenant != null) {
+                this.hits++;
+                return tenant;
+            }
+            this.misses++;
+        }
+
+        // An evicted copy of the user may not be saved yet; its file must be complete before it is read.
+        Tenant evicted = this.evicting.get(userId);
+        if (evicted != null) {
+            evicted.flushAndEvict();
+        }
+
+        String filePath = this.dataDirectory + File.separator + userId + File.separator + DATA_FILE_NAME;
+        Tenant tenant = new Tenant(new Corgi(filePath));
+
+        synchronized (this) {
+            this.tenants.put(userId, tenant);
+        }
+
+        this.trimToBudget(tenant);
+
+        return tenant;
+    }
+
+    /**
+     * Evicts least recently used tenants until the cache is within its bounds.
+     * The given tenant is never evicted, so that a single large task list can still be served.
+     * Victims are picked under the registry's lock and saved after it is released, so neither
+     * a long command of a victim nor the file I/O holds up other users.
+     */
+    private void trimToBudget(Tenant protectedTenant) {
+        List<Map.Entry<String, Tenant>> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            long residentTasks = this.getResidentTaskCount();
+            Iterator<Map.Entry<String, Tenant>> eldestFirst = this.tenants.entrySet().iterator();
+
+            while (eldestFirst.hasNext()
+                    && (this.tenants.size() > this.maxTenants || residentTasks > this.maxResidentTasks)) {
+                Map.Entry<String, Tenant> eldest = eldestFirst.next();
+
+                if (eldest.getValue() == protectedTenant) {
+                    continue;
+                }
+
+                residentTasks -= eldest.getValue().getTaskCount();
+                evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+                this.evicting.put(eldest.getKey(), eldest.getValue());
+                eldestFirst.remove();
+                this.evictions++;
+            }
+        }
+
+        for (Map.Entry<String, Tenant> entry : evicted) {
+            entry.getValue().flushAndEvict();
+            this.evicting.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the fraction of accesses that found the user already loaded.
+     *
+     * @return The cache hit rate, or 0 if there was no access yet.
+     */
+    public synchronized double getHitRate() {
+        long accesses = this.hits + this.misses;
+        return accesses == 0 ? 0 : (double) this.hits / accesses;
+    }
+
+    /**
+     * Returns the total number of tasks held in memory across all loaded users.
+     *
+     * @return The number of resident tasks.
+     */
+    public synchronized long getResidentTaskCount() {
+        long count = 0;
+        for (Tenant tenant : this.tenants.values()) {
+            count += tenant.getTaskCount();
+        }
+        return count;
+    }
+
+    public synchronized int getResidentTenantCount() {
+        return this.tenants.size();
+    }
+
+    public synchronized long getEvictionCount() {
+        return this.evictions;
+    }
+
+    /**
+     * Saves every loaded user's task list.
+     */
+    public void flushAll() {
+        List<Tenant> resident;
+        synchronized (this) {
+            resident = new ArrayList<>(this.tenants.values());
+        }
+
+        for (Tenant tenant : resident) {
+            synchronized (tenant) {
+                tenant.getCorgi().save();
+            }
+        }
+    }
+}
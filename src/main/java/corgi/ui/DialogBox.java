@@ -1,53 +1,90 @@
 package corgi.ui;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
+import javafx.scene.shape.StrokeType;
 
 /**
- * Custom control using FXML.
+ * Custom control built in code, as it is created for every message on screen.
  * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
  * containing text from the speaker.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private Circle displayPicture;
+    private static final String STYLESHEET = DialogBox.class.getResource("/css/DialogBoxStyle.css").toExternalForm();
 
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private final Label dialog = new Label();
+    private final Circle displayPicture = new Circle(40.0, Color.DODGERBLUE);
+
+    private Image image;
+    private boolean isFlipped;
+
+    /**
+     * Creates an empty dialog box, to be filled by {@link #show(String, Image, boolean)}.
+     */
+    DialogBox() {
+        dialog.setId("dialog");
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
+        HBox.setMargin(dialog, new Insets(15.0, 0, 0, 0));
+
+        displayPicture.setStroke(Color.WHITE);
+        displayPicture.setStrokeType(StrokeType.INSIDE);
+        displayPicture.setStrokeWidth(3.0);
+
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        setPrefWidth(400.0);
+        setSpacing(10);
+        setPadding(new Insets(15.0, 5.0, 15.0, 5.0));
+        setStyle("-fx-padding: 10;");
+        getStylesheets().add(STYLESHEET);
+        getChildren().setAll(dialog, displayPicture);
+    }
 
+    private DialogBox(String text, Image img) {
+        this();
         dialog.setText(text);
         displayPicture.setFill(new ImagePattern(img));
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Replaces the content of the dialog box, so that a single box can show one message after another.
+     *
+     * @param text The text to be displayed in the dialog box.
+     * @param img The image to be associated with the dialog box, or null to leave its place empty.
+     * @param isUser Whether the message is from the user, shown on the right, or from Corgi, shown on the left.
+     */
+    void show(String text, Image img, boolean isUser) {
+        dialog.setText(text);
+        displayPicture.setVisible(img != null);
+
+        if (img != null && img != this.image) {
+            this.image = img;
+            displayPicture.setFill(new ImagePattern(img));
+        }
+
+        if (isUser == this.isFlipped) {
+            flip();
+        }
+    }
+
+    /**
+     * Flips the dialog box such that the ImageView is on the left and text on the right, or back.
      */
     private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+        isFlipped = !isFlipped;
+        if (isFlipped) {
+            getChildren().setAll(displayPicture, dialog);
+        } else {
+            getChildren().setAll(dialog, displayPicture);
+        }
+        setAlignment(isFlipped ? Pos.TOP_LEFT : Pos.TOP_RIGHT);
     }
 
     /**
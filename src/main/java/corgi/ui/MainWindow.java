@@ -1,47 +1,198 @@
 package corgi.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+
 import corgi.Corgi;
+import corgi.commands.Command;
+import corgi.commands.FindTasksContainKeywordCommand;
+import corgi.query.LiveSearch;
+import corgi.tasks.TaskList;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
  */
 public class MainWindow extends AnchorPane {
+    private static final int MAX_SUGGESTIONS = 8;
+
+    /**
+     * The largest number of messages kept in the conversation, or 0 to keep them all.
+     * Set with the system property {@code corgi.ui.maxMessages}.
+     */
+    private static final int MAX_MESSAGES = Math.max(0, Integer.getInteger("corgi.ui.maxMessages", 0));
+
+    /**
+     * The largest number of lines shown in one dialog box. Longer replies are split over several boxes,
+     * so that only the boxes in view are laid out.
+     */
+    private static final int LINES_PER_MESSAGE = 100;
+
+    /**
+     * How long typing has to pause before the live filter searches, so that a search does not start on
+     * every keystroke.
+     */
+    private static final Duration LIVE_FILTER_DELAY = Duration.millis(150);
+    private static final int MAX_LIVE_RESULTS = 500;
+
+    /**
+     * How long to wait on exit for queued commands, and the save they end with, to finish.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final String COMMAND_FAILED =
+            "Woof?!\n\nSomething went wrong with that command, so it may not have been done.\n";
+    private static final String LOAD_FAILED =
+            "Woof?!\n\nI could not load your tasks, so I cannot do anything. Restart me to try again.\n";
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator busyIndicator;
+    @FXML
+    private ToggleButton liveFilterToggle;
+    @FXML
+    private ListView<String> liveResults;
 
-    private Corgi corgi;
+    /**
+     * The chatbot, set on the command thread once its tasks are loaded. Stays null if loading fails.
+     */
+    private volatile Corgi corgi;
+
+    /**
+     * Runs the commands one at a time, in the order they were entered, away from the JavaFX application thread.
+     */
+    private final ExecutorService commandExecutor = newDaemonExecutor("corgi-commands");
+
+    /**
+     * Runs the live filter searches away from the JavaFX application thread, so a slow search never delays
+     * a command.
+     */
+    private final ExecutorService liveFilterExecutor = newDaemonExecutor("corgi-live-filter");
+    private final LiveSearch liveSearch = new LiveSearch();
+    private final PauseTransition liveFilterDelay = new PauseTransition(LIVE_FILTER_DELAY);
+
+    /**
+     * Counts the live filter searches started. A search is stale, and stops, once a newer one has started.
+     */
+    private final AtomicLong liveFilterGeneration = new AtomicLong();
+
+    /**
+     * The number of commands entered but not answered yet, including the loading of the tasks.
+     * Only used on the JavaFX application thread.
+     */
+    private int pendingCommands;
+
+    private final ContextMenu suggestions = new ContextMenu();
+
+    private final ObservableList<Message> messages = FXCollections.observableArrayList();
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/user.jpg"));
     private Image corgiImage = new Image(this.getClass().getResourceAsStream("/images/corgi.jpg"));
 
+    /**
+     * Shows the conversation in a virtualized list: only the messages in view have a dialog box,
+     * and the boxes are reused while scrolling.
+     */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new MessageCell(list, userImage, corgiImage));
+        dialogList.setFocusTraversable(false);
+        busyIndicator.managedProperty().bind(busyIndicator.visibleProperty());
+        busyIndicator.setVisible(false);
+        userInput.textProperty().addListener((observable, oldText, newText) -> handleTextChanged(newText));
+
+        liveResults.managedProperty().bind(liveResults.visibleProperty());
+        liveResults.setVisible(false);
+        liveResults.setFocusTraversable(false);
+        liveFilterDelay.setOnFinished(event -> startLiveFilter(userInput.getText()));
+        liveFilterToggle.selectedProperty().addListener((observable, wasSelected, isSelected) -> {
+            suggestions.hide();
+            if (isSelected) {
+                startLiveFilter(userInput.getText());
+            } else {
+                stopLiveFilter();
+            }
+            userInput.requestFocus();
+        });
     }
 
-    public void setCorgi(Corgi c) {
-        corgi = c;
-        dialogContainer.getChildren().add(
-                DialogBox.getCorgiDialog(corgi.getIntro(), corgiImage));
+    private static ExecutorService newDaemonExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Loads Corgi in the background while showing the progress. Commands entered in the meantime wait
+     * and run once the tasks are loaded. If loading fails, the error is shown and no more input is accepted.
+     *
+     * @param loader Creates Corgi, reporting the fraction of its tasks loaded so far.
+     */
+    public void loadCorgi(Function<DoubleConsumer, Corgi> loader) {
+        pendingCommands++;
+        busyIndicator.setProgress(0);
+        busyIndicator.setVisible(true);
+
+        commandExecutor.execute(() -> {
+            long start = System.nanoTime();
+            Corgi loaded;
+            try {
+                loaded = loader.apply(progress -> Platform.runLater(() -> busyIndicator.setProgress(progress)));
+            } catch (RuntimeException | Error e) {
+                String error = LOAD_FAILED + "\nError: \n" + e + "\n";
+                Platform.runLater(() -> {
+                    busyIndicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+                    finishCommand();
+                    userInput.setDisable(true);
+                    sendButton.setDisable(true);
+                    addMessages(new Message(Message.Sender.CORGI, error));
+                });
+                throw e;
+            }
+            StartupLog.logLoaded(loaded.getTaskCount(), System.nanoTime() - start);
+            corgi = loaded;
+
+            String intro = loaded.getIntro();
+            Platform.runLater(() -> {
+                busyIndicator.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+                finishCommand();
+                addMessages(new Message(Message.Sender.CORGI, intro));
+            });
+        });
+    }
+
+    /**
+     * Echoes the user input to the conversation and runs it in the background, adding Corgi's reply once it is ready.
+     * Clears the user input after sending it.
      */
     @FXML
     private void handleUserInput() {
@@ -51,21 +202,179 @@ public class MainWindow extends AnchorPane {
             return;
         }
 
-        String response = corgi.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getCorgiDialog(response, corgiImage)
-        );
+        // In live filter mode, the input is a keyword, and entering it keeps the matches in the conversation.
+        // The search is built directly, as the keyword may contain words that the parser reads as arguments.
+        Command search = liveFilterToggle.isSelected() ? new FindTasksContainKeywordCommand(input, true) : null;
+        String command = search == null ? input : "find";
+
+        addMessages(new Message(Message.Sender.USER, input));
+        userInput.clear();
+        suggestions.hide();
+
+        pendingCommands++;
+        busyIndicator.setVisible(true);
+
+        commandExecutor.execute(() -> {
+            long start = System.nanoTime();
+            String response = null;
+            boolean isExit = false;
+            try {
+                Corgi target = corgi;
+                if (target == null) {
+                    // Entered while the tasks were loading, and loading failed
+                    response = LOAD_FAILED;
+                } else {
+                    response = target.getResponse(command, search);
+                    isExit = target.isExit();
+                    StartupLog.logCommand(System.nanoTime() - start);
+                }
+            } finally {
+                // Answer even a command that failed, so that it no longer counts as pending
+                String reply = response == null ? COMMAND_FAILED : response;
+                boolean isReplyExit = isExit;
+                Platform.runLater(() -> showResponse(reply, isReplyExit));
+            }
+        });
+    }
+
+    /**
+     * Adds Corgi's reply to a command to the conversation, and exits if the command asked to.
+     */
+    private void showResponse(String response, boolean isExit) {
+        finishCommand();
+        List<Message> parts = Message.split(Message.Sender.CORGI, response, LINES_PER_MESSAGE);
+        addMessages(parts.toArray(new Message[0]));
 
-        String lowerCaseInput = input.toLowerCase();
+        if (liveFilterToggle.isSelected()) {
+            startLiveFilter(userInput.getText());
+        }
 
-        if (lowerCaseInput.equals("bye")) {
+        if (isExit) {
+            userInput.setDisable(true);
+            sendButton.setDisable(true);
             Platform.runLater(() -> {
                 handleByeCommand();
             });
         }
+    }
 
-        userInput.clear();
+    private void finishCommand() {
+        pendingCommands--;
+        busyIndicator.setVisible(pendingCommands > 0);
+    }
+
+    /**
+     * Stops accepting commands and waits for those already entered to finish, so that no save is cut short.
+     */
+    public void shutdown() {
+        liveFilterExecutor.shutdownNow();
+        commandExecutor.shutdown();
+        try {
+            commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends messages to the conversation, drops the oldest ones beyond the limit, and scrolls to the first
+     * message added.
+     */
+    private void addMessages(Message... newMessages) {
+        messages.addAll(newMessages);
+
+        if (MAX_MESSAGES > 0 && messages.size() > MAX_MESSAGES) {
+            messages.remove(0, messages.size() - MAX_MESSAGES);
+        }
+
+        dialogList.scrollTo(Math.max(0, messages.size() - newMessages.length));
+    }
+
+    private void handleTextChanged(String text) {
+        if (liveFilterToggle.isSelected()) {
+            liveFilterDelay.playFromStart();
+        } else {
+            showSuggestions(text);
+        }
+    }
+
+    /**
+     * Searches the tasks containing the keyword in the background, and shows them unless a newer search
+     * has started in the meantime. The search goes over the matches of the previous keyword when the
+     * keyword extends it.
+     */
+    private void startLiveFilter(String keyword) {
+        long generation = liveFilterGeneration.incrementAndGet();
+        Corgi target = corgi;
+        String trimmedKeyword = keyword.trim();
+
+        if (target == null || trimmedKeyword.isEmpty()) {
+            liveResults.setVisible(false);
+            return;
+        }
+
+        TaskList tasks = target.getTaskList();
+        liveFilterExecutor.execute(() -> {
+            int[] positions = liveSearch.search(tasks, trimmedKeyword,
+                    () -> liveFilterGeneration.get() != generation);
+            if (positions == null) {
+                return;
+            }
+
+            List<String> lines = new ArrayList<>();
+            for (int i = 0; i < Math.min(positions.length, MAX_LIVE_RESULTS); i++) {
+                lines.add((positions[i] + 1) + ") " + tasks.get(positions[i]));
+            }
+            if (positions.length > MAX_LIVE_RESULTS) {
+                lines.add("... and " + (positions.length - MAX_LIVE_RESULTS) + " more");
+            }
+
+            Platform.runLater(() -> {
+                if (liveFilterGeneration.get() == generation) {
+                    liveResults.getItems().setAll(lines);
+                    liveResults.setVisible(true);
+                }
+            });
+        });
+    }
+
+    private void stopLiveFilter() {
+        liveFilterDelay.stop();
+        liveFilterGeneration.incrementAndGet();
+        liveResults.setVisible(false);
+    }
+
+    /**
+     * Shows the commands and arguments that complete the text typed so far.
+     */
+    private void showSuggestions(String text) {
+        if (corgi == null || text.isEmpty()) {
+            suggestions.hide();
+            return;
+        }
+
+        List<String> completions = corgi.complete(text);
+
+        if (completions.isEmpty() || (completions.size() == 1 && completions.get(0).equals(text))) {
+            suggestions.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String completion : completions.subList(0, Math.min(completions.size(), MAX_SUGGESTIONS))) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(event -> {
+                userInput.setText(completion);
+                userInput.positionCaret(completion.length());
+            });
+            items.add(item);
+        }
+
+        suggestions.getItems().setAll(items);
+
+        if (!suggestions.isShowing()) {
+            suggestions.show(userInput, Side.TOP, 0, 0);
+        }
     }
 
     private void handleByeCommand() {
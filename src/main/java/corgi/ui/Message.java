@@ -0,0 +1,83 @@
+package corgi.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message of the conversation shown in the main window.
+ * A long message is shown as several parts, so that the list only lays out the parts in view.
+ */
+public final class Message {
+    /**
+     * The sender of a message.
+     */
+    public enum Sender {
+        USER,
+        CORGI
+    }
+
+    private final Sender sender;
+    private final String text;
+    private final boolean isContinuation;
+
+    /**
+     * Constructs a message.
+     *
+     * @param sender The sender of the message.
+     * @param text The text of the message.
+     */
+    public Message(Sender sender, String text) {
+        this(sender, text, false);
+    }
+
+    private Message(Sender sender, String text, boolean isContinuation) {
+        this.sender = sender;
+        this.text = text;
+        this.isContinuation = isContinuation;
+    }
+
+    /**
+     * Splits a text into messages of at most the given number of lines each.
+     * All messages but the first continue the one before.
+     *
+     * @param sender The sender of the text.
+     * @param text The text to split.
+     * @param maxLines The largest number of lines in a message.
+     * @return The messages, in order.
+     */
+    public static List<Message> split(Sender sender, String text, int maxLines) {
+        assert maxLines > 0 : "Messages must have at least one line";
+
+        List<Message> messages = new ArrayList<>();
+        int start = 0;
+        int lines = 0;
+
+        for (int end = text.indexOf('\n'); end >= 0; end = text.indexOf('\n', end + 1)) {
+            lines++;
+            if (lines == maxLines && end + 1 < text.length()) {
+                messages.add(new Message(sender, text.substring(start, end), !messages.isEmpty()));
+                start = end + 1;
+                lines = 0;
+            }
+        }
+
+        messages.add(new Message(sender, start == 0 ? text : text.substring(start), !messages.isEmpty()));
+        return messages;
+    }
+
+    public Sender getSender() {
+        return this.sender;
+    }
+
+    public String getText() {
+        return this.text;
+    }
+
+    public boolean isContinuation() {
+        return this.isContinuation;
+    }
+
+    public boolean isFromUser() {
+        return this.sender == Sender.USER;
+    }
+}
@@ -0,0 +1,51 @@
+package corgi.ui;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * A cell of the conversation list. The list view only creates enough cells to fill its viewport and
+ * reuses them while scrolling, so each cell keeps a single dialog box and only updates its content.
+ */
+class MessageCell extends ListCell<Message> {
+    /**
+     * The horizontal space kept free for the vertical scroll bar of the list.
+     */
+    private static final double SCROLL_BAR_ALLOWANCE = 20;
+
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image corgiImage;
+
+    /**
+     * Constructs a cell of the given list.
+     *
+     * @param listView The list the cell belongs to.
+     * @param userImage The picture shown next to messages from the user.
+     * @param corgiImage The picture shown next to messages from Corgi.
+     */
+    MessageCell(ListView<Message> listView, Image userImage, Image corgiImage) {
+        this.userImage = userImage;
+        this.corgiImage = corgiImage;
+
+        // Let the list decide the width, so that long messages wrap instead of scrolling sideways
+        this.setPrefWidth(0);
+        this.dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+    }
+
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+
+        if (isEmpty || message == null) {
+            this.setGraphic(null);
+            return;
+        }
+
+        // Parts continuing a long message leave out the picture, so the parts read as one message
+        Image image = message.isFromUser() ? this.userImage : this.corgiImage;
+        this.dialogBox.show(message.getText(), message.isContinuation() ? null : image, message.isFromUser());
+        this.setGraphic(this.dialogBox);
+    }
+}
@@ -0,0 +1,128 @@
+package corgi.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import corgi.metrics.CommandMetrics;
+
+/**
+ * A message with placeholders, split into its fixed parts once so that rendering only appends.
+ *
+ * Placeholders are written as {@code {}} and filled in order. Messages are rendered into a buffer reused by
+ * each thread, so the only string allocated for a message is the result.
+ */
+final class MessageTemplate {
+    private static final String PLACEHOLDER = "{}";
+    private static final int MAX_BUFFERED_LENGTH = 1 << 13;
+    private static final int MAX_INT_LENGTH = 11;
+
+    private static final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String[] parts;
+    private final int fixedLength;
+
+    private MessageTemplate(String[] parts) {
+        this.parts = parts;
+
+        int length = 0;
+        for (String part : parts) {
+            length += part.length();
+        }
+        this.fixedLength = length;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template The text of the message, with {@code {}} in place of each value.
+     * @return The compiled template.
+     */
+    static MessageTemplate compile(String template) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int end = template.indexOf(PLACEHOLDER); end >= 0; end = template.indexOf(PLACEHOLDER, start)) {
+            parts.add(template.substring(start, end));
+            start = end + PLACEHOLDER.length();
+        }
+        parts.add(template.substring(start));
+        return new MessageTemplate(parts.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the number of values the template takes.
+     *
+     * @return The number of placeholders.
+     */
+    int getPlaceholderCount() {
+        return this.parts.length - 1;
+    }
+
+    /**
+     * Renders the template with the given values.
+     *
+     * @param values The values of the placeholders, in order.
+     * @return The message.
+     */
+    String render(Object... values) {
+        long start = CommandMetrics.startTimer();
+        String message;
+
+        if (getLength(values) > MAX_BUFFERED_LENGTH) {
+            message = renderLong(values);
+        } else {
+            StringBuilder sb = buffer.get();
+            sb.setLength(0);
+            renderTo(sb, values);
+            message = sb.toString();
+        }
+
+        CommandMetrics.endRender(start);
+        return message;
+    }
+
+    /**
+     * Renders a message too long to keep a buffer for, copying each part straight into the result.
+     */
+    private String renderLong(Object[] values) {
+        String[] pieces = new String[this.parts.length + values.length];
+        pieces[0] = this.parts[0];
+        for (int i = 0; i < values.length; i++) {
+            pieces[2 * i + 1] = String.valueOf(values[i]);
+            pieces[2 * i + 2] = this.parts[i + 1];
+        }
+        return String.join("", pieces);
+    }
+
+    /**
+     * Returns the length of the message with the given values, or a little more, so that the buffer
+     * grows at most once.
+     */
+    private int getLength(Object[] values) {
+        long length = this.fixedLength;
+        for (Object value : values) {
+            length += value instanceof CharSequence ? ((CharSequence) value).length() : MAX_INT_LENGTH;
+        }
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Appends the template with the given values to a buffer.
+     *
+     * @param sb The buffer to append to.
+     * @param values The values of the placeholders, in order.
+     */
+    void renderTo(StringBuilder sb, Object... values) {
+        assert values.length == getPlaceholderCount() : "Expected " + getPlaceholderCount() + " values";
+
+        sb.append(this.parts[0]);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof Integer) {
+                sb.append(((Integer) value).intValue());
+            } else {
+                sb.append(value);
+            }
+            sb.append(this.parts[i + 1]);
+        }
+    }
+}
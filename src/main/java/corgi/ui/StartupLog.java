@@ -0,0 +1,54 @@
+package corgi.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs how long the phases of starting Corgi take: showing the window, loading the tasks and answering
+ * the first command. Times since start are measured from the start of the JVM.
+ */
+public final class StartupLog {
+    private static final AtomicBoolean hasLoggedFirstCommand = new AtomicBoolean();
+
+    private StartupLog() {
+    }
+
+    /**
+     * Logs that the window has been shown.
+     */
+    public static void logWindowShown() {
+        log("Window shown " + getMillisSinceStart() + " ms after start");
+    }
+
+    /**
+     * Logs that the tasks have been loaded.
+     *
+     * @param taskCount The number of tasks loaded.
+     * @param loadNanos How long loading took, in nanoseconds.
+     */
+    public static void logLoaded(int taskCount, long loadNanos) {
+        log("Loaded " + taskCount + " tasks in " + TimeUnit.NANOSECONDS.toMillis(loadNanos) + " ms, "
+                + getMillisSinceStart() + " ms after start");
+    }
+
+    /**
+     * Logs that a command has been answered, if it is the first one.
+     *
+     * @param commandNanos How long running the command took, in nanoseconds.
+     */
+    public static void logCommand(long commandNanos) {
+        if (hasLoggedFirstCommand.compareAndSet(false, true)) {
+            log("First command answered in " + TimeUnit.NANOSECONDS.toMillis(commandNanos) + " ms, "
+                    + getMillisSinceStart() + " ms after start");
+        }
+    }
+
+    private static long getMillisSinceStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    private static void log(String message) {
+        System.out.println("[startup] " + message);
+    }
+}
@@ -2,10 +2,13 @@ package corgi.ui;
 
 import java.util.Map;
 
-import corgi.commands.CommandType;
+import corgi.metrics.CommandMetrics;
+import corgi.parsers.CommandDefinition;
+import corgi.tasks.TaskList;
 
 /**
  * The TextRenderer class is responsible to return message after each command.
+ * The messages are precompiled templates, rendered in a single pass.
  */
 public final class TextRenderer {
     private static final String LOGO = "  ____ ___  ____   ____ ___\n"
@@ -15,17 +18,69 @@ public final class TextRenderer {
             + " \\____\\___/|_| \\_\\\\____|___|\n";
     private static final Map<String, String> errorMessage = ErrorMessage.MAPPER;
 
+    private static final String INTRO = "Woof! I'm Corgi!\n"
+            + "So, what's your wish this time, hooman?\n";
+    private static final String EXIT = "Fine! Whatever! Just go away then! See if I care! huffs\n";
+    private static final String NO_TASK_FOUND = "If you haven't noticed, there's nothing here! No task to be found.\n";
+
+    private static final MessageTemplate ERROR = MessageTemplate.compile("Woof?!\n\n{}\n");
+    private static final MessageTemplate ERROR_WITH_DETAILS = MessageTemplate.compile(
+            "Woof?!\n\n{}\n\nError: \n{}\n");
+    private static final MessageTemplate COMMAND_FORMAT = MessageTemplate.compile("Format: {}\n");
+    private static final MessageTemplate TASK_ADDED = MessageTemplate.compile(
+            "Woof, whatever. I've added this {}:\n\n{}\n\nNow you have {} {} in the list.\n");
+    private static final MessageTemplate NO_TASK_ON_DATE = MessageTemplate.compile(
+            "Ugh, seriously? No tasks or events on {}? What a waste of time.\n");
+    private static final MessageTemplate TASKS_ON_DATE = MessageTemplate.compile(
+            "Fine, here's what's going on on {}:\n\n{}\n\nDon't expect me to be excited about it.\n");
+    private static final MessageTemplate NO_UPCOMING_TASK = MessageTemplate.compile(
+            "Nothing coming up from {}. Enjoy it while it lasts, hooman.\n");
+    private static final MessageTemplate UPCOMING_TASKS = MessageTemplate.compile(
+            "Brace yourself, here's what's coming up from {}:\n\n{}\n");
+    private static final MessageTemplate KEYWORD_NOT_FOUND = MessageTemplate.compile(
+            "No task with that annoying keyword \"{}\" found. It's like searching for a bone in an empty bowl.\n");
+    private static final MessageTemplate TASKS_WITH_KEYWORD = MessageTemplate.compile(
+            "Ugh, fine, I found tasks with that ridiculous keyword \"{}\":\n\n{}\n");
+    private static final MessageTemplate TASKS_CLOSE_TO_KEYWORD = MessageTemplate.compile(
+            "Can't spell, can you? Here's my best guess for \"{}\":\n\n{}\n");
+    private static final MessageTemplate NO_TASK_MATCHING_QUERY = MessageTemplate.compile(
+            "Nothing matches \"{}\". Maybe ask for something that actually exists, hooman.\n");
+    private static final MessageTemplate TASKS_MATCHING_QUERY = MessageTemplate.compile(
+            "Sniffed out these tasks for \"{}\":\n\n{}\n");
+    private static final MessageTemplate TASK_DONE = MessageTemplate.compile(
+            "Congratulations, I guess! You finally managed to do something right:\n\n{}\n");
+    private static final MessageTemplate TASK_UNDONE = MessageTemplate.compile(
+            "Oh great, you've undone something. Just like always:\n\n{}\n");
+    private static final MessageTemplate TASK_DELETED = MessageTemplate.compile(
+            "Finally got rid of that task. Took you long enough... uninterested woof ~\n\n{}\n\n"
+                    + "Now you have {} {} in the list.\n");
+    private static final MessageTemplate TASKS_DONE = MessageTemplate.compile(
+            "Wow, {} {} at once? Who are you and what have you done with my hooman:\n\n{}\n");
+    private static final MessageTemplate TASKS_UNDONE = MessageTemplate.compile(
+            "Oh great, you've undone {} {}. Just like always:\n\n{}\n");
+    private static final MessageTemplate TASKS_DELETED = MessageTemplate.compile(
+            "Poof! {} {} gone. Took you long enough... uninterested woof ~\n\n{}\n\n"
+                    + "Now you have {} {} in the list.\n");
+    private static final MessageTemplate TASK_LIST = MessageTemplate.compile(
+            "Here's the list of tasks that better be done:\n\n{}\n");
+    private static final String METRICS_DISABLED = "I'm not counting anything, hooman. "
+            + "Start me with -Dcorgi.metrics=true if you want numbers.\n";
+    private static final MessageTemplate METRICS = MessageTemplate.compile(
+            "Fine, here's where all my time goes:\n\n{}");
+    private static final MessageTemplate FOOTPRINT = MessageTemplate.compile(
+            "Here's how much of my tiny brain your tasks take up:\n\n{}");
+    private static final MessageTemplate UNDO_SUCCEED = MessageTemplate.compile(
+            "Argh, fine!\nI undid it: {}\nYou better think twice next time!\n");
+
     /**
-     * Return lines of messages.
+     * Returns the singular or plural form of a noun to follow a count.
      *
-     * @param messages All message to display in different line.
+     * @param count The count.
+     * @param singular The singular form of the noun.
+     * @param plural The plural form of the noun.
      */
-    private String returnMessage(String ... messages) {
-        String msg = "";
-        for (String message : messages) {
-            msg += message + "\n";
-        }
-        return msg;
+    private static String pluralize(int count, String singular, String plural) {
+        return count > 1 ? plural : singular;
     }
 
     /**
@@ -39,24 +94,31 @@ public final class TextRenderer {
      * Display the introductory message.
      */
     public String showIntro() {
-        return returnMessage(
-                "Woof! I'm Corgi!",
-                "So, what's your wish this time, hooman?");
+        return INTRO;
     }
 
     /**
-     * Display an error message associated with a specific exception.
+     * Returns the error message associated with a specific exception.
      *
      * @param exception The exception class name.
      */
-    public String showError(String exception) {
-        String defaultErrorMessage = "Oh wonderful, you've broken something. And guess what? "
+    private static String getErrorMessage(String exception) {
+        String message = errorMessage.get(exception);
+        if (message != null) {
+            return message;
+        }
+        return "Oh wonderful, you've broken something. And guess what? "
                 + "I have \nabsolutely no idea what happened either."
                 + "\n\nError: " + exception + " occurred!";
-        return returnMessage(
-                "Woof?!",
-                "",
-                errorMessage.getOrDefault(exception, defaultErrorMessage));
+    }
+
+    /**
+     * Display an error message associated with a specific exception.
+     *
+     * @param exception The exception class name.
+     */
+    public String showError(String exception) {
+        return ERROR.render(getErrorMessage(exception));
     }
 
     /**
@@ -67,18 +129,16 @@ public final class TextRenderer {
      * @param extraMsg  The extra message.
      */
     public String showError(String exception, String extraMsg) {
-        return returnMessage(
-            this.showError(exception),
-            "Error: \n" + extraMsg);
+        return ERROR_WITH_DETAILS.render(getErrorMessage(exception), extraMsg);
     }
 
     /**
-     * Display the format of a specific command type.
+     * Display the format of a specific command.
      *
-     * @param c The specific command type.
+     * @param c The specific command.
      */
-    public String showCommandFormat(CommandType c) {
-        return returnMessage("Format: " + c.getCommandFormat());
+    public String showCommandFormat(CommandDefinition c) {
+        return COMMAND_FORMAT.render(c.getCommandFormat());
     }
 
     /**
@@ -89,17 +149,14 @@ public final class TextRenderer {
      * @param currentListSize The current size of the task list.
      */
     public String showTaskAdded(String type, String taskInfo, int currentListSize) {
-        return returnMessage(
-                "Woof, whatever. I've added this " + type + ":\n",
-                taskInfo,
-                "\nNow you have " + currentListSize + " " + (currentListSize > 1 ? "tasks" : "task") + " in the list.");
+        return TASK_ADDED.render(type, taskInfo, currentListSize, pluralize(currentListSize, "task", "tasks"));
     }
 
     /**
      * Display a exit message.
      */
     public String showExitMsg() {
-        return returnMessage("Fine! Whatever! Just go away then! See if I care! huffs");
+        return EXIT;
     }
 
     /**
@@ -108,8 +165,7 @@ public final class TextRenderer {
      * @param date The target date.
      */
     public String showNoTaskOnDate(String date) {
-        return returnMessage("Ugh, seriously? No tasks or events on " + date
-                + "? What a waste of time.");
+        return NO_TASK_ON_DATE.render(date);
     }
 
     /**
@@ -119,11 +175,26 @@ public final class TextRenderer {
      * @param tasksOnDate The tasks occurred on the target date.
      */
     public String showTasksOnDate(String date, String tasksOnDate) {
-        return returnMessage("Fine, here's what's going on on " + date + ":",
-                "",
-                tasksOnDate,
-                "",
-                "Don't expect me to be excited about it.");
+        return TASKS_ON_DATE.render(date, tasksOnDate);
+    }
+
+    /**
+     * Display a message indicating no undone deadlines or events from the date.
+     *
+     * @param date The first date.
+     */
+    public String showNoUpcomingTask(String date) {
+        return NO_UPCOMING_TASK.render(date);
+    }
+
+    /**
+     * Display the next undone deadlines and events from the date.
+     *
+     * @param date The first date.
+     * @param upcomingTasks The upcoming tasks, earliest first.
+     */
+    public String showUpcomingTasks(String date, String upcomingTasks) {
+        return UPCOMING_TASKS.render(date, upcomingTasks);
     }
 
     /**
@@ -132,8 +203,7 @@ public final class TextRenderer {
      * @param keyword The target keyword.
      */
     public String showKeywordNotFound(String keyword) {
-        return returnMessage("No task with that annoying keyword \"" + keyword
-                + "\" found. It's like searching for a bone in an empty bowl.");
+        return KEYWORD_NOT_FOUND.render(keyword);
     }
 
     /**
@@ -143,10 +213,36 @@ public final class TextRenderer {
      * @param tasksContainKeyword The tasks containing the target keyword.
      */
     public String showTasksWithKeyword(String keyword, String tasksContainKeyword) {
-        return returnMessage(
-                "Ugh, fine, I found tasks with that ridiculous keyword \"" + keyword + "\":",
-                "",
-                tasksContainKeyword);
+        return TASKS_WITH_KEYWORD.render(keyword, tasksContainKeyword);
+    }
+
+    /**
+     * Display tasks with words close to the target keyword, closest first.
+     *
+     * @param keyword The target keyword.
+     * @param closestTasks The tasks closest to the target keyword.
+     */
+    public String showTasksCloseToKeyword(String keyword, String closestTasks) {
+        return TASKS_CLOSE_TO_KEYWORD.render(keyword, closestTasks);
+    }
+
+    /**
+     * Display a message indicating no tasks matching the query.
+     *
+     * @param conditions The conditions of the query.
+     */
+    public String showNoTaskMatchingQuery(String conditions) {
+        return NO_TASK_MATCHING_QUERY.render(conditions);
+    }
+
+    /**
+     * Display tasks that matched the query.
+     *
+     * @param conditions The conditions of the query.
+     * @param matchingTasks The tasks matching the query.
+     */
+    public String showTasksMatchingQuery(String conditions, String matchingTasks) {
+        return TASKS_MATCHING_QUERY.render(conditions, matchingTasks);
     }
 
     /**
@@ -155,10 +251,7 @@ public final class TextRenderer {
      * @param taskInfo Information about the added task.
      */
     public String showTaskDone(String taskInfo) {
-        return returnMessage(
-                "Congratulations, I guess! You finally managed to do something right:",
-                "",
-                taskInfo);
+        return TASK_DONE.render(taskInfo);
     }
 
     /**
@@ -167,10 +260,7 @@ public final class TextRenderer {
      * @param taskInfo Information about the added task.
      */
     public String showTaskUndone(String taskInfo) {
-        return returnMessage(
-                "Oh great, you've undone something. Just like always:",
-                "",
-                taskInfo);
+        return TASK_UNDONE.render(taskInfo);
     }
 
     /**
@@ -180,19 +270,60 @@ public final class TextRenderer {
      * @param currentListSize Current size of the list.
      */
     public String showTaskDeleted(String taskInfo, int currentListSize) {
-        return returnMessage(
-                "Finally got rid of that task. Took you long enough... uninterested woof ~",
-                "",
-                taskInfo,
-                "",
-                "Now you have " + currentListSize + " " + (currentListSize > 1 ? "tasks" : "task") + " in the list.");
+        return TASK_DELETED.render(taskInfo, currentListSize, pluralize(currentListSize, "task", "tasks"));
+    }
+
+    /**
+     * Display a message indicating several tasks have been marked as done.
+     *
+     * @param tasksInfo Information about the marked tasks, one per line.
+     * @param count The number of marked tasks.
+     */
+    public String showTasksDone(String tasksInfo, int count) {
+        return TASKS_DONE.render(count, pluralize(count, "task", "tasks"), tasksInfo);
+    }
+
+    /**
+     * Display a message indicating several tasks have been marked as not done.
+     *
+     * @param tasksInfo Information about the unmarked tasks, one per line.
+     * @param count The number of unmarked tasks.
+     */
+    public String showTasksUndone(String tasksInfo, int count) {
+        return TASKS_UNDONE.render(count, pluralize(count, "thing", "things"), tasksInfo);
+    }
+
+    /**
+     * Display a message indicating several tasks have been deleted and display current list size.
+     *
+     * @param tasksInfo Information about the deleted tasks, one per line.
+     * @param count The number of deleted tasks.
+     * @param currentListSize Current size of the list.
+     */
+    public String showTasksDeleted(String tasksInfo, int count, int currentListSize) {
+        return TASKS_DELETED.render(count, pluralize(count, "task", "tasks"), tasksInfo,
+                currentListSize, pluralize(currentListSize, "task", "tasks"));
     }
 
     /**
      * Display a mesage indicating there is no task in the list.
      */
     public String showNoTaskFound() {
-        return returnMessage("If you haven't noticed, there's nothing here! No task to be found.");
+        return NO_TASK_FOUND;
+    }
+
+    /**
+     * Formats the tasks as a numbered list, one task per line, to be shown by the other methods.
+     * The time taken counts towards the render phase of the command.
+     *
+     * @param tasks The tasks to format.
+     * @return The numbered list of tasks.
+     */
+    public String formatTasks(TaskList tasks) {
+        long start = CommandMetrics.startTimer();
+        String formatted = tasks.toString();
+        CommandMetrics.endRender(start);
+        return formatted;
     }
 
     /**
@@ -200,10 +331,7 @@ public final class TextRenderer {
      * @param taskList
      */
     public String showTaskList(String taskList) {
-        return returnMessage(
-                "Here's the list of tasks that better be done:",
-                "",
-                taskList);
+        return TASK_LIST.render(taskList);
     }
 
     /**
@@ -213,8 +341,35 @@ public final class TextRenderer {
      * @return A string message indicating the successful undo.
      */
     public String showUndoSucceed(String commandDesc) {
-        return returnMessage("Argh, fine!",
-                "I undid it: " + commandDesc,
-                "You better think twice next time!");
+        return UNDO_SUCCEED.render(commandDesc);
+    }
+
+    /**
+     * Generates a message showing the metrics collected while answering commands.
+     *
+     * @param report The metrics as text, ending with a line break.
+     * @return A string message with the metrics.
+     */
+    public String showMetrics(String report) {
+        return METRICS.render(report);
+    }
+
+    /**
+     * Generates a message indicating that metrics are not being collected.
+     *
+     * @return A string message explaining how to enable metrics.
+     */
+    public String showMetricsDisabled() {
+        return METRICS_DISABLED;
+    }
+
+    /**
+     * Generates a message showing the estimated memory held by the tasks, caches and undo history.
+     *
+     * @param report The estimate as text, ending with a line break.
+     * @return A string message with the estimate.
+     */
+    public String showFootprint(String report) {
+        return FOOTPRINT.render(report);
     }
 }
@@ -0,0 +1,146 @@
+package corgi;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import corgi.parsers.TaskParser;
+import corgi.storage.Storage;
+import corgi.tasks.Deadline;
+import corgi.tasks.Event;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.ToDo;
+
+/**
+ * Fails when the hot commands allocate more than their budget per command, so that extra copies and
+ * temporary strings are caught in review rather than in production.
+ *
+ * Each command is run on a list of {@value #TASK_COUNT} tasks until the JIT has compiled it, then measured
+ * with {@link ThreadMXBean#getThreadAllocatedBytes(long)} on the test thread. Commands that change the list
+ * include saving it, as they do for the user. The budgets leave about half again the measured allocation as
+ * headroom; lower them when a change makes a command cheaper.
+ */
+public class AllocationBudgetTest {
+    private static final int TASK_COUNT = 1000;
+    private static final int WARMUP_RUNS = 2000;
+    private static final int MEASURED_RUNS = 500;
+
+    private static final long LIST_BUDGET = 950_000;
+    private static final long FIND_BUDGET = 110_000;
+    private static final long MARK_BUDGET = 900_000;
+    private static final long TODO_BUDGET = 900_000;
+    private static final long PARSE_BUDGET = 3_000;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private Corgi corgi;
+
+    /**
+     * Creates a chatbot whose data file holds {@value #TASK_COUNT} tasks.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        assumeTrue(this.threads.isThreadAllocatedMemorySupported(), "Allocation cannot be measured on this JVM");
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+
+        File file = Files.createTempFile("corgi-allocation", ".txt").toFile();
+        file.deleteOnExit();
+        new Storage<>(new TaskParser(), file.getPath()).save(new TaskList(createTasks()));
+        this.corgi = new Corgi(file.getPath());
+    }
+
+    private static List<Task> createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            String desc = (i % 10 == 0 ? "submit weekly report " : "read chapter ") + i;
+            switch (i % 3) {
+            case 0:
+                tasks.add(new ToDo(i % 4 == 0, desc));
+                break;
+            case 1:
+                tasks.add(new Deadline(i % 4 == 0, desc, date.plusDays(i % 365)));
+                break;
+            default:
+                tasks.add(new Event(i % 4 == 0, desc, date.plusDays(i % 365), date.plusDays(i % 365 + 2)));
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    @Test
+    public void list_thousandTasks_withinBudget() {
+        assertWithinBudget("list", LIST_BUDGET, () -> this.corgi.getResponse("list"), () -> { });
+    }
+
+    @Test
+    public void find_thousandTasks_withinBudget() {
+        assertWithinBudget("find", FIND_BUDGET, () -> this.corgi.getResponse("find /target weekly"), () -> { });
+    }
+
+    @Test
+    public void mark_thousandTasks_withinBudget() {
+        assertWithinBudget("mark", MARK_BUDGET, () -> this.corgi.getResponse("mark /target 2"),
+                () -> this.corgi.getResponse("undo"));
+    }
+
+    @Test
+    public void todo_thousandTasks_withinBudget() {
+        assertWithinBudget("todo", TODO_BUDGET, () -> this.corgi.getResponse("todo /desc water plants"),
+                () -> this.corgi.getResponse("undo"));
+    }
+
+    @Test
+    public void parseTask_eachType_withinBudget() {
+        TaskParser parser = new TaskParser();
+        String[] lines = {"T | 0 | read the chapter on garbage collection",
+            "D | 1 | submit the weekly report | 2026-09-22",
+            "E | 0 | performance engineering conference | 2026-09-20 | 2026-09-22"};
+        int[] next = {0};
+
+        assertWithinBudget("TaskParser.parse", PARSE_BUDGET, () -> {
+            try {
+                parser.parse(lines[next[0]++ % lines.length]);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, () -> { });
+    }
+
+    /**
+     * Runs a command many times, undoing its effect after each run, and checks the average allocation
+     * of the command alone against its budget.
+     */
+    private void assertWithinBudget(String name, long budget, Runnable command, Runnable undo) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            command.run();
+            undo.run();
+        }
+
+        long thread = Thread.currentThread().getId();
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long before = this.threads.getThreadAllocatedBytes(thread);
+            command.run();
+            allocated += this.threads.getThreadAllocatedBytes(thread) - before;
+            undo.run();
+        }
+
+        long perCommand = allocated / MEASURED_RUNS;
+        assertTrue(perCommand <= budget,
+                name + " allocated " + perCommand + " bytes per command, over its budget of " + budget);
+    }
+}
@@ -0,0 +1,83 @@
+package corgi.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.Corgi;
+import corgi.tasks.Deadline;
+import corgi.tasks.Event;
+import corgi.tasks.TaskList;
+import corgi.tasks.ToDo;
+
+public class FootprintReportTest {
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 1);
+
+    private static TaskList createTaskList() {
+        return new TaskList(Arrays.asList(new ToDo("water plants"), new Deadline("water plants", DATE),
+                new Event("water plants", DATE, DATE.plusDays(1)), new ToDo(true, "read a book")));
+    }
+
+    @Test
+    public void estimate_mixedTypes_countsEachType() {
+        FootprintReport report = FootprintReport.estimate(createTaskList(), Collections.emptyList(), 1 << 20);
+
+        assertEquals(4, report.getTaskCount());
+        assertTrue(report.getTaskBytes("Deadline") > report.getTaskBytes("ToDo") / 2);
+        assertTrue(report.getTaskBytes("Event") > report.getTaskBytes("Deadline"));
+        assertEquals(report.getTaskBytes(), report.getTaskBytes("ToDo") + report.getTaskBytes("Deadline")
+                + report.getTaskBytes("Event"));
+        assertEquals(0, report.getHistoryBytes());
+        assertTrue(report.getTaskCapacity() > 0);
+    }
+
+    @Test
+    public void estimate_historySharingTasks_countsSharedTasksOnce() {
+        TaskList previous = createTaskList();
+        TaskList current = previous.add(new ToDo("feed the corgi"));
+
+        FootprintReport report = FootprintReport.estimate(current, Collections.singletonList(previous), 1 << 20);
+
+        assertEquals(previous.estimateListFootprint(), report.getHistoryBytes());
+    }
+
+    @Test
+    public void clearCaches_builtIndexes_dropsCacheFootprint() {
+        TaskList tasks = createTaskList();
+        long before = tasks.estimateCacheFootprint(new Footprint());
+        tasks.getIndex();
+        tasks.getUpcoming(DATE, 2);
+        long built = tasks.estimateCacheFootprint(new Footprint());
+
+        tasks.clearCaches();
+
+        assertTrue(built > before);
+        assertEquals(before, tasks.estimateCacheFootprint(new Footprint()));
+        assertEquals(2, tasks.getUpcoming(DATE, 2).size());
+    }
+
+    @Test
+    public void trimMemory_longHistory_keepsLatestChanges() throws IOException {
+        File file = Files.createTempFile("corgi-footprint", ".txt").toFile();
+        file.deleteOnExit();
+        Corgi corgi = new Corgi(file.getPath());
+        for (int i = 0; i < 15; i++) {
+            corgi.getResponse("todo /desc task " + i);
+        }
+
+        corgi.trimMemory();
+        for (int i = 0; i < 11; i++) {
+            corgi.getResponse("undo");
+        }
+
+        assertEquals(5, corgi.getTaskCount());
+    }
+}
@@ -0,0 +1,52 @@
+package corgi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_anyLatency_fallsWithinItsBucketBounds() {
+        long[] latencies = {0, 1, 15, 16, 17, 31, 32, 1000, 999_999, 123_456_789L, Long.MAX_VALUE};
+        for (long latency : latencies) {
+            int bucket = LatencyHistogram.getBucket(latency);
+            long upperBound = LatencyHistogram.getUpperBound(bucket);
+
+            assertTrue(latency <= upperBound, latency + " above " + upperBound);
+            assertTrue(bucket == 0 || latency > LatencyHistogram.getUpperBound(bucket - 1), "bucket of " + latency);
+            assertTrue(upperBound - latency <= latency / 8, "bucket of " + latency + " too wide");
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_uniformLatencies_withinOneBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500_000L, histogram.getTotalNanos());
+        assertEquals(1_000_000L, histogram.getMaxNanos());
+
+        long p50 = histogram.getPercentileNanos(0.50);
+        long p99 = histogram.getPercentileNanos(0.99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 9 / 8, "p50 " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(1_000_000L, histogram.getPercentileNanos(1.0));
+    }
+
+    @Test
+    public void reset_afterRecording_forgetsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.record(-5);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getPercentileNanos(0.99));
+    }
+}
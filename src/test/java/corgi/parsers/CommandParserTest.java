@@ -101,6 +101,17 @@ public class CommandParserTest {
         // Missing argument flag
         assertThrows(InvalidCommandFormatException.class, () ->
                 parser.parse("delete 1"));
+        // Invalid task number lists
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("delete /target 1 2 3"));
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("delete /target 3-1"));
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("delete /target 0-2,4"));
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("delete /target 1,,2"));
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("delete /target 1-"));
     }
 
     @Test
@@ -121,6 +132,53 @@ public class CommandParserTest {
                 parser.parse("find pen"));
     }
 
+    @Test
+    public void parse_invalidFuzzyCommand_throwsInvalidCommandFormatException() {
+        CommandParser parser = new CommandParser();
+
+        // Missing required argument flag
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("fuzzy /top 3"));
+        // Invalid number of optional argument flag
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("fuzzy /target pen /top 3 /top 4"));
+        // Invalid number of tasks
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("fuzzy /target pen /top three"));
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("fuzzy /target pen /top 0"));
+    }
+
+    @Test
+    public void parse_invalidUpcomingCommand_throwsInvalidCommandFormatException() {
+        CommandParser parser = new CommandParser();
+
+        // Missing required argument flag
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("upcoming /from 2023-09-22"));
+        // Invalid number of tasks
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("upcoming /count ten"));
+        // Too many tasks
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("upcoming /count 2000000000 /from 2026-01-01"));
+        // Invalid date format
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("upcoming /count 10 /from tmr"));
+    }
+
+    @Test
+    public void parse_invalidQueryCommand_throwsInvalidCommandFormatException() {
+        CommandParser parser = new CommandParser();
+
+        // Missing value for argument
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("query /where"));
+        // Invalid condition
+        assertThrows(InvalidCommandFormatException.class, () ->
+                parser.parse("query /where colour:red"));
+    }
+
     @Test
     public void parse_invalidDateCommand_throwsInvalidCommandFormatException() {
         CommandParser parser = new CommandParser();
@@ -0,0 +1,67 @@
+package corgi.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.commands.Command;
+import corgi.commands.ListTasksCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void lookup_mixedCase_findsCommand() {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        assertEquals("todo", registry.lookup("todo").getName());
+        assertEquals("todo", registry.lookup("ToDo").getName());
+        assertNull(registry.lookup("todos"));
+    }
+
+    @Test
+    public void register_newCommand_isParsed() throws Exception {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        registry.register("ls", "ls", new HashSet<>(), (tokens, definition) -> new ListTasksCommand());
+
+        Command command = new CommandParser(registry).parse("LS");
+
+        assertTrue(command instanceof ListTasksCommand);
+        assertThrows(InvalidCommandTypeException.class, () -> new CommandParser().parse("ls"));
+    }
+
+    @Test
+    public void register_existingName_throwsIllegalArgumentException() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register("List", "list", new HashSet<>(), (tokens, definition) -> new ListTasksCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register("two words", "", new HashSet<>(), (tokens, definition) -> new ListTasksCommand()));
+    }
+
+    @Test
+    public void complete_partialCommandWord_suggestsCommands() {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        assertEquals(Arrays.asList("date ", "deadline ", "delete "), registry.complete("d"));
+        assertEquals(Arrays.asList("undo", "unmark "), registry.complete("un"));
+        assertTrue(registry.complete("x").isEmpty());
+    }
+
+    @Test
+    public void complete_partialArgument_suggestsUnusedArguments() {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        List<String> completions = registry.complete("event /desc party /");
+
+        assertEquals(Arrays.asList("event /desc party /from ", "event /desc party /to "), completions);
+        assertEquals(Arrays.asList("deadline /desc report /by "), registry.complete("deadline /desc report /b"));
+    }
+}
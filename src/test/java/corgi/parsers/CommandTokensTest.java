@@ -0,0 +1,73 @@
+package corgi.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandTokensTest {
+
+    @Test
+    public void tokenize_variousSpacing_matchesStringSplit() {
+        String[] commands = {"", "list", "list ", " list", "todo /desc a  b", "todo  ", "a b c", "   "};
+
+        for (String command : commands) {
+            CommandTokens tokens = CommandTokens.tokenize(command);
+
+            assertEquals(command.split(" ").length, tokens.size(), "Size of \"" + command + "\"");
+            assertEquals(command.split(" ", 2)[0], tokens.getCommandWord(), "Command word of \"" + command + "\"");
+        }
+    }
+
+    @Test
+    public void getArgumentValues_validCommand_returnsValuesBetweenArguments() throws Exception {
+        Set<String> arguments = new HashSet<>(Arrays.asList("/desc", "/from", "/to"));
+        CommandTokens tokens = CommandTokens.tokenize("event /desc team  lunch /from 2023-09-20 /to 2023-09-22");
+
+        Map<String, String> values = tokens.getArgumentValues(arguments);
+
+        assertEquals("team  lunch", values.get("/desc"));
+        assertEquals("2023-09-20", values.get("/from"));
+        assertEquals("2023-09-22", values.get("/to"));
+        assertEquals(1, tokens.count("/desc"));
+    }
+
+    @Test
+    public void getArgumentValues_missingValue_throwsInvalidCommandFormatException() {
+        Set<String> arguments = new HashSet<>(Arrays.asList("/desc", "/by"));
+
+        InvalidCommandFormatException exception1 = assertThrows(InvalidCommandFormatException.class, () ->
+                CommandTokens.tokenize("deadline /desc /by 2023-09-22").getArgumentValues(arguments));
+        InvalidCommandFormatException exception2 = assertThrows(InvalidCommandFormatException.class, () ->
+                CommandTokens.tokenize("deadline /desc task /by ").getArgumentValues(arguments));
+
+        assertEquals("Missing value for argument \"/desc\"", exception1.getMessage());
+        assertEquals("Missing value for argument \"/by\" !", exception2.getMessage());
+    }
+
+    @Test
+    public void getArgumentValues_flags_haveNoValue() throws Exception {
+        Set<String> arguments = new HashSet<>(Arrays.asList("/target"));
+        Set<String> flags = new HashSet<>(Arrays.asList("/ignorecase"));
+
+        Map<String, String> values1 = CommandTokens.tokenize("find /target a b /ignorecase")
+                .getArgumentValues(arguments, flags);
+        Map<String, String> values2 = CommandTokens.tokenize("find /ignorecase /target a b")
+                .getArgumentValues(arguments, flags);
+        Map<String, String> values3 = CommandTokens.tokenize("find /target a b")
+                .getArgumentValues(arguments, flags);
+
+        assertEquals("a b", values1.get("/target"));
+        assertEquals("", values1.get("/ignorecase"));
+        assertEquals("a b", values2.get("/target"));
+        assertEquals("", values2.get("/ignorecase"));
+        assertEquals(false, values3.containsKey("/ignorecase"));
+        assertThrows(InvalidCommandFormatException.class, () -> CommandTokens.tokenize("find /ignorecase x /target a")
+                .getArgumentValues(arguments, flags));
+    }
+}
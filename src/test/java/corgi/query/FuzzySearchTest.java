@@ -0,0 +1,109 @@
+package corgi.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.tasks.IndexRanges;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.TaskStatusException;
+import corgi.tasks.ToDo;
+
+public class FuzzySearchTest {
+
+    private TaskList createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book"));
+        tasks.add(new ToDo("submit weekly report"));
+        tasks.add(new ToDo("return library books"));
+        tasks.add(new ToDo("Report bug"));
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void select_typoInKeyword_ranksClosestTasksFirst() {
+        TaskList result = FuzzySearch.select(createTasks(), "reprot", 5);
+
+        assertEquals("1) [T][ ] submit weekly report\n2) [T][ ] Report bug", result.toString());
+    }
+
+    @Test
+    public void select_severalWords_prefersTasksMatchingMoreWords() {
+        TaskList result = FuzzySearch.select(createTasks(), "wekly reports", 1);
+
+        assertEquals("1) [T][ ] submit weekly report", result.toString());
+    }
+
+    @Test
+    public void select_afterAddAndDelete_followsCurrentList() throws Exception {
+        TaskList tasks = createTasks();
+        assertTrue(FuzzySearch.select(tasks, "grocery", 5).isEmpty());
+
+        TaskList added = tasks.add(new ToDo("buy groceries"));
+        assertEquals("1) [T][ ] buy groceries", FuzzySearch.select(added, "grocerie", 5).toString());
+
+        TaskList removed = added.remove(1);
+        assertEquals("1) [T][ ] Report bug", FuzzySearch.select(removed, "reprot", 5).toString());
+        assertEquals("1) [T][ ] buy groceries", FuzzySearch.select(removed, "grocerie", 5).toString());
+    }
+
+    @Test
+    public void select_noCloseWord_returnsEmptyList() {
+        assertTrue(FuzzySearch.select(createTasks(), "xyzzy", 5).isEmpty());
+        assertTrue(FuzzySearch.select(createTasks(), "!!", 5).isEmpty());
+    }
+
+    @Test
+    public void select_manyChanges_matchesFreshlyIndexedList() throws Exception {
+        Random random = new Random(7);
+        String[] words = {"report", "repair", "reply", "book", "books", "look", "cook", "2103", "2106"};
+        TaskList tasks = createTasks();
+
+        for (int i = 0; i < 600; i++) {
+            int action = random.nextInt(6);
+            if (action <= 1 || tasks.size() < 4) {
+                tasks = tasks.add(new ToDo(words[random.nextInt(words.length)] + " "
+                        + words[random.nextInt(words.length)]));
+            } else if (action == 2) {
+                tasks = tasks.remove(random.nextInt(tasks.size()));
+            } else if (action == 3) {
+                int index = random.nextInt(tasks.size());
+                tasks = tasks.mark(index, !tasks.get(index).isDone());
+            } else if (action == 4) {
+                try {
+                    tasks = tasks.markAll(randomRanges(random, tasks.size()), random.nextBoolean());
+                } catch (TaskStatusException e) {
+                    // Every task in the ranges already had that status
+                }
+            } else {
+                tasks = tasks.removeAll(randomRanges(random, tasks.size()));
+            }
+
+            String keyword = words[random.nextInt(words.length)];
+            List<Task> copy = new ArrayList<>();
+            for (int j = 0; j < tasks.size(); j++) {
+                copy.add(tasks.get(j));
+            }
+
+            assertEquals(FuzzySearch.select(new TaskList(copy), keyword, 10).toString(),
+                    FuzzySearch.select(tasks, keyword, 10).toString(), keyword);
+        }
+    }
+
+    /**
+     * Returns a short range of indexes and a single index, possibly overlapping, within a list of the given size.
+     */
+    private static IndexRanges randomRanges(Random random, int size) {
+        int start = random.nextInt(size);
+        int end = Math.min(size - 1, start + random.nextInt(3));
+        int other = random.nextInt(size);
+        return new IndexRanges(Arrays.asList(new int[] {start, end}, new int[] {other, other}));
+    }
+}
@@ -0,0 +1,66 @@
+package corgi.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.ToDo;
+
+public class LiveSearchTest {
+
+    private TaskList createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book"));
+        tasks.add(new ToDo("submit weekly report"));
+        tasks.add(new ToDo("return library books"));
+        tasks.add(new ToDo("Report bug"));
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void search_extendedKeyword_checksPreviousMatchesOnly() {
+        TaskList tasks = createTasks();
+        LiveSearch search = new LiveSearch();
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, search.search(tasks, "r", () -> false));
+        assertArrayEquals(new int[] {1, 3}, search.search(tasks, "rep", () -> false));
+        assertEquals(4, search.getLastCandidateCount());
+        assertArrayEquals(new int[] {1, 3}, search.search(tasks, "REPO", () -> false));
+        assertEquals(2, search.getLastCandidateCount());
+        assertArrayEquals(new int[] {3}, search.search(tasks, "report b", () -> false));
+        assertArrayEquals(new int[] {3}, search.search(tasks, "report b", () -> false));
+        assertEquals(1, search.getLastCandidateCount());
+    }
+
+    @Test
+    public void search_shorterKeywordOrChangedList_checksAllTasks() {
+        TaskList tasks = createTasks();
+        LiveSearch search = new LiveSearch();
+
+        search.search(tasks, "book", () -> false);
+        assertArrayEquals(new int[] {0, 2}, search.search(tasks, "bo", () -> false));
+        assertEquals(4, search.getLastCandidateCount());
+
+        TaskList added = tasks.add(new ToDo("buy books"));
+        assertArrayEquals(new int[] {0, 2, 4}, search.search(added, "boo", () -> false));
+        assertEquals(5, search.getLastCandidateCount());
+    }
+
+    @Test
+    public void search_cancelled_returnsNullAndKeepsPreviousResult() {
+        TaskList tasks = createTasks();
+        LiveSearch search = new LiveSearch();
+
+        search.search(tasks, "re", () -> false);
+        assertNull(search.search(tasks, "rep", () -> true));
+        assertArrayEquals(new int[] {1, 3}, search.search(tasks, "rep", () -> false));
+        assertEquals(4, search.getLastCandidateCount());
+    }
+}
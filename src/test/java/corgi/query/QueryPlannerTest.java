@@ -0,0 +1,85 @@
+package corgi.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.parsers.InvalidParsingFormatException;
+import corgi.parsers.QueryParser;
+import corgi.tasks.Deadline;
+import corgi.tasks.Event;
+import corgi.tasks.Task;
+import corgi.tasks.TaskList;
+import corgi.tasks.ToDo;
+
+public class QueryPlannerTest {
+    private static final LocalDate START = LocalDate.of(2026, 11, 1);
+
+    private TaskList createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            boolean isDone = i % 3 == 0;
+            String desc = (i % 4 == 0 ? "weekly report " : "chore ") + i;
+            LocalDate date = START.plusDays(i % 45);
+
+            if (i % 3 == 1) {
+                tasks.add(new Deadline(isDone, desc, date));
+            } else if (i % 3 == 2) {
+                tasks.add(new Event(isDone, desc, date, date.plusDays(2)));
+            } else {
+                tasks.add(new ToDo(isDone, desc));
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void select_variousQueries_matchesFullScan() throws Exception {
+        TaskList tasks = createTasks();
+        QueryParser parser = new QueryParser();
+        String[] queries = {
+            "type:D done:0 before:2026-12-01 text:report",
+            "type:E after:2026-11-10 before:2026-11-20",
+            "done:1 or type:deadline -text:chore",
+            "text:\"weekly report\" -done:1",
+            "on:2026-11-05 or on:2026-11-30",
+            "after:2026-12-31",
+            "TYPE:t DONE:true",
+        };
+
+        for (String query : queries) {
+            TaskQuery taskQuery = parser.parse(query);
+            TaskList expected = tasks.filter(taskQuery::test);
+
+            assertEquals(expected.toString(), QueryPlanner.select(tasks, taskQuery).toString(), query);
+        }
+    }
+
+    @Test
+    public void select_dateRange_excludesBoundaryDates() throws Exception {
+        TaskList tasks = new TaskList(List.of(
+                new Deadline("a", START),
+                new Deadline("b", START.plusDays(1)),
+                new Deadline("c", START.plusDays(2))));
+
+        TaskQuery query = new QueryParser().parse("after:2026-11-01 before:2026-11-03");
+
+        assertEquals("1) [D][ ] b (by: Nov 02 2026)", QueryPlanner.select(tasks, query).toString());
+    }
+
+    @Test
+    public void parse_invalidConditions_throwsInvalidParsingFormatException() {
+        QueryParser parser = new QueryParser();
+        String[] queries = {"", "type", "type:X", "done:maybe", "colour:red", "before:2026-13-01",
+            "text:\"open", "or type:T", "type:T or", "-:1"};
+
+        for (String query : queries) {
+            assertThrows(InvalidParsingFormatException.class, () -> parser.parse(query), query);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package corgi.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import corgi.tenant.TenantRegistry;
+
+public class CorgiServerTest {
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    public void postCommand_runningServer_repliesWithResponse() throws Exception {
+        CorgiServer server = new CorgiServer(new TenantRegistry(this.dataDirectory.toString(), 2, Long.MAX_VALUE), 0);
+        server.start();
+        try {
+            HttpResponse<String> added = post(server, "alice", "todo /desc read book");
+            HttpResponse<String> listed = post(server, "alice", "list");
+
+            assertEquals(200, added.statusCode());
+            assertEquals(200, listed.statusCode());
+            assertTrue(listed.body().contains("read book"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void postCommand_invalidRequests_repliesWithClientError() throws Exception {
+        CorgiServer server = new CorgiServer(new TenantRegistry(this.dataDirectory.toString(), 2, Long.MAX_VALUE), 0);
+        server.start();
+        try {
+            assertEquals(400, post(server, "alice", " ").statusCode());
+            assertEquals(400, post(server, "../alice", "list").statusCode());
+            assertEquals(413, post(server, "alice", "todo /desc " + "a".repeat(17 * 1024)).statusCode());
+
+            HttpRequest get = HttpRequest.newBuilder(getUri(server, "/command")).GET().build();
+            assertEquals(405, this.client.send(get, HttpResponse.BodyHandlers.ofString()).statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private HttpResponse<String> post(CorgiServer server, String user, String command) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(getUri(server, "/command"))
+                .header("X-Corgi-User", user)
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI getUri(CorgiServer server, String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
@@ -0,0 +1,57 @@
+package corgi.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance_knownPairs_returnsLevenshteinDistance() {
+        assertEquals(0, BkTree.distance("report", "report"));
+        assertEquals(2, BkTree.distance("report", "reprot"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "book"));
+    }
+
+    @Test
+    public void search_randomWords_matchesBruteForce() {
+        Random random = new Random(42);
+        BkTree tree = new BkTree();
+        String[] words = new String[500];
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomWord(random);
+            tree.insert(words[i]);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            Map<String, Integer> expected = new TreeMap<>();
+            for (String word : words) {
+                int distance = BkTree.distance(query, word);
+                if (distance <= 2) {
+                    expected.put(word, distance);
+                }
+            }
+
+            Map<String, Integer> actual = new TreeMap<>();
+            tree.search(query, 2, actual::put);
+
+            assertEquals(expected, actual, query);
+        }
+    }
+
+    private String randomWord(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 3 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+}
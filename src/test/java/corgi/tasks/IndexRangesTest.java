@@ -0,0 +1,39 @@
+package corgi.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangesTest {
+
+    @Test
+    public void constructor_overlappingRanges_mergesThem() {
+        IndexRanges ranges = new IndexRanges(Arrays.asList(new int[] {9, 9}, new int[] {2, 5}, new int[] {4, 6},
+                new int[] {7, 7}));
+
+        assertEquals("3-8,10", ranges.toString());
+        assertEquals("[2, 3, 4, 5, 6, 7, 9]", Arrays.toString(ranges.toArray()));
+    }
+
+    @Test
+    public void markAllAndRemoveAll_ranges_applyToEveryTask() throws Exception {
+        TaskList tasks = new TaskList();
+        for (int i = 1; i <= 6; i++) {
+            tasks = tasks.add(new ToDo("task " + i));
+        }
+        IndexRanges ranges = new IndexRanges(Arrays.asList(new int[] {0, 1}, new int[] {4, 4}));
+
+        TaskList marked = tasks.mark(1, true).markAll(ranges, true);
+        assertEquals("1) [T][X] task 1\n2) [T][X] task 2\n3) [T][ ] task 3\n4) [T][ ] task 4\n"
+                + "5) [T][X] task 5\n6) [T][ ] task 6", marked.toString());
+        assertThrows(TaskStatusException.class, () -> marked.markAll(ranges, true));
+
+        TaskList removed = marked.removeAll(ranges);
+        assertEquals("1) [T][ ] task 3\n2) [T][ ] task 4\n3) [T][ ] task 6", removed.toString());
+        assertThrows(TaskListIndexOutOfBoundsException.class, () ->
+                removed.removeAll(new IndexRanges(Arrays.asList(new int[] {1, 3}))));
+    }
+}
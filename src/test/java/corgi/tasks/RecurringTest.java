@@ -0,0 +1,128 @@
+package corgi.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.parsers.TaskParser;
+
+public class RecurringTest {
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+
+    private static Recurring weekly(LocalDate until) {
+        return new Recurring("water plants", new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, MONDAY, until));
+    }
+
+    @Test
+    public void occursOn_weeklyRule_onlySameWeekdayWithinRange() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, MONDAY, MONDAY.plusWeeks(4));
+
+        assertTrue(rule.occursOn(MONDAY));
+        assertTrue(rule.occursOn(MONDAY.plusWeeks(4)));
+        assertFalse(rule.occursOn(MONDAY.plusDays(3)));
+        assertFalse(rule.occursOn(MONDAY.minusWeeks(1)));
+        assertFalse(rule.occursOn(MONDAY.plusWeeks(5)));
+    }
+
+    @Test
+    public void getNextOccurrence_monthlyRuleOnLastDay_clampsToShortMonths() {
+        LocalDate start = LocalDate.of(2026, 1, 31);
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, start, null);
+
+        assertEquals(start, rule.getNextOccurrence(LocalDate.of(2025, 6, 1)));
+        assertEquals(LocalDate.of(2026, 2, 28), rule.getNextOccurrence(LocalDate.of(2026, 2, 1)));
+        assertEquals(LocalDate.of(2026, 3, 31), rule.getNextOccurrence(LocalDate.of(2026, 3, 1)));
+        assertTrue(rule.occursOn(LocalDate.of(2026, 4, 30)));
+        assertFalse(rule.occursOn(LocalDate.of(2026, 3, 28)));
+        assertEquals(LocalDate.of(2126, 1, 31), rule.getNextOccurrence(LocalDate.of(2126, 1, 2)));
+    }
+
+    @Test
+    public void getNextOccurrence_pastLastDate_returnsNull() {
+        Recurring task = weekly(MONDAY.plusWeeks(1));
+
+        assertEquals(MONDAY.plusWeeks(1), task.getNextOccurrence(MONDAY.plusDays(1)));
+        assertNull(task.getNextOccurrence(MONDAY.plusWeeks(1).plusDays(1)));
+    }
+
+    @Test
+    public void markOccurrence_singleDate_storedAsException() throws Exception {
+        Recurring task = weekly(null).markOccurrence(MONDAY.plusWeeks(1), true);
+
+        assertTrue(task.isDoneOn(MONDAY.plusWeeks(1)));
+        assertFalse(task.isDoneOn(MONDAY));
+        assertFalse(task.isDone());
+        assertEquals(MONDAY.plusWeeks(2), task.getNextOccurrence(MONDAY.plusDays(1)));
+        assertThrows(TaskStatusException.class, () -> task.markOccurrence(MONDAY.plusWeeks(1), true));
+        assertThrows(TaskStatusException.class, () -> task.markOccurrence(MONDAY.plusDays(1), true));
+        assertFalse(task.markOccurrence(MONDAY.plusWeeks(1), false).isDoneOn(MONDAY.plusWeeks(1)));
+    }
+
+    @Test
+    public void toStorableString_parsedBack_keepsRuleAndExceptions() throws Exception {
+        TaskParser parser = new TaskParser();
+        Recurring forever = weekly(null);
+        Recurring marked = weekly(MONDAY.plusWeeks(10))
+                .markOccurrence(MONDAY.plusWeeks(3), true)
+                .markOccurrence(MONDAY.plusWeeks(1), true);
+
+        assertEquals("R | 0 | water plants | week | 2026-10-05 | -", forever.toStorableString());
+        assertEquals("R | 0 | water plants | week | 2026-10-05 | 2026-12-14 | 2026-10-12,2026-10-26",
+                marked.toStorableString());
+        assertEquals(forever.toStorableString(), parser.parse(forever.toStorableString()).toStorableString());
+        assertEquals(marked.toStorableString(), parser.parse(marked.toStorableString()).toStorableString());
+        assertEquals(marked.toString(), parser.parse(marked.toStorableString()).toString());
+    }
+
+    @Test
+    public void getUpcoming_recurringTasks_mergesNextUndoneOccurrences() throws Exception {
+        TaskList tasks = new TaskList()
+                .add(new Deadline("report", MONDAY.plusDays(8)))
+                .add(weekly(null));
+        tasks.getUpcoming(MONDAY, 1);
+        tasks = tasks.markOccurrence(1, MONDAY.plusWeeks(1), true)
+                .add(new Recurring("stand-up", new RecurrenceRule(RecurrenceRule.Frequency.DAILY,
+                        MONDAY.plusDays(9), MONDAY.plusDays(10))));
+
+        assertEquals("1) [R][ ] water plants (on: Oct 05 2026)\n"
+                + "2) [D][ ] report (by: Oct 13 2026)\n"
+                + "3) [R][ ] stand-up (on: Oct 14 2026)\n"
+                + "4) [R][ ] stand-up (on: Oct 15 2026)\n"
+                + "5) [R][ ] water plants (on: Oct 19 2026)\n"
+                + "6) [R][ ] water plants (on: Oct 26 2026)", tasks.getUpcoming(MONDAY, 6).toString());
+
+        // A century ahead is one step away, not thousands of occurrences
+        Task far = tasks.getUpcoming(LocalDate.of(2125, 12, 30), 1).get(0);
+        assertEquals(DayOfWeek.MONDAY, far.getKeyDate().getDayOfWeek());
+        assertTrue(far.getKeyDate().isBefore(LocalDate.of(2126, 1, 6)));
+    }
+
+    @Test
+    public void getUpcoming_openEndedDailyTaskWithLargeCount_returnsAtMostMaxCount() {
+        TaskList tasks = new TaskList().add(new Recurring("water plants",
+                new RecurrenceRule(RecurrenceRule.Frequency.DAILY, MONDAY, null)));
+
+        TaskList upcoming = tasks.getUpcoming(MONDAY, Integer.MAX_VALUE);
+
+        assertEquals(UpcomingIndex.MAX_COUNT, upcoming.size());
+        Task last = upcoming.get(UpcomingIndex.MAX_COUNT - 1);
+        assertEquals(MONDAY.plusDays(UpcomingIndex.MAX_COUNT - 1), last.getKeyDate());
+    }
+
+    @Test
+    public void getOnDate_recurringTask_listsOccurrenceWithItsStatus() throws Exception {
+        TaskList tasks = new TaskList().add(weekly(null)).add(new Deadline("report", MONDAY.plusWeeks(1)));
+        tasks = tasks.markOccurrence(0, MONDAY.plusWeeks(1), true);
+
+        assertEquals("1) [R][X] water plants (on: Oct 12 2026)\n2) [D][ ] report (by: Oct 12 2026)",
+                tasks.getOnDate(MONDAY.plusWeeks(1)).toString());
+        assertTrue(tasks.getOnDate(MONDAY.plusDays(1)).isEmpty());
+    }
+}
@@ -1,6 +1,10 @@
 package corgi.tasks;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 
@@ -33,4 +37,28 @@ public class TaskTest {
         assertThrows(TaskStatusException.class, () -> deadline.markAsNotDone());
         assertThrows(TaskStatusException.class, () -> event.markAsNotDone());
     }
+
+    @Test
+    public void containsIgnoreCase_differentCaseAndAccents_matches() {
+        // Full-width C, e with acute accent and e with diaeresis
+        Event event = new Event("\uff23af\u00e9 MEETING with Zo\u00eb",
+                LocalDate.of(2023, 9, 22), LocalDate.of(2023, 10, 1));
+
+        assertTrue(event.containsIgnoreCase(TextNormalizer.fold("cafe meeting")));
+        assertTrue(event.containsIgnoreCase(TextNormalizer.fold("ZOE")));
+        assertFalse(event.contains("cafe"));
+        assertEquals("strasse", TextNormalizer.fold("Stra\u00dfe"));
+        assertEquals("file", TextNormalizer.fold("\ufb01le"));
+    }
+
+    @Test
+    public void markAsDone_foldedDescription_isReused() throws Exception {
+        Deadline deadline = new Deadline("Submit Report", LocalDate.of(2023, 9, 22));
+        String folded = deadline.getFoldedDescription();
+
+        Deadline marked = deadline.markAsDone();
+
+        assertSame(folded, marked.getFoldedDescription());
+        assertEquals("[D][X] Submit Report (by: Sep 22 2023)", marked.toString());
+    }
 }
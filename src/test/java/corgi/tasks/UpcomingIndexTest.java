@@ -0,0 +1,82 @@
+package corgi.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class UpcomingIndexTest {
+    private static final LocalDate START = LocalDate.of(2026, 11, 1);
+
+    @Test
+    public void getUpcoming_mixedTasks_returnsUndoneTasksFromDateInDateOrder() throws Exception {
+        TaskList tasks = new TaskList()
+                .add(new Deadline("report", START.plusDays(5)))
+                .add(new ToDo("read"))
+                .add(new Event("trip", START.plusDays(2), START.plusDays(4)))
+                .add(new Deadline(true, "done already", START.plusDays(1)))
+                .add(new Deadline("past", START.minusDays(1)));
+
+        assertEquals("1) [E][ ] trip (from: Nov 03 2026 to: Nov 05 2026)\n"
+                + "2) [D][ ] report (by: Nov 06 2026)", tasks.getUpcoming(START, 10).toString());
+        assertEquals("1) [D][ ] past (by: Oct 31 2026)", tasks.getUpcoming(START.minusDays(3), 1).toString());
+
+        TaskList marked = tasks.mark(2, true).mark(3, false);
+        assertEquals("1) [D][ ] done already (by: Nov 02 2026)\n"
+                + "2) [D][ ] report (by: Nov 06 2026)", marked.getUpcoming(START, 10).toString());
+    }
+
+    @Test
+    public void getUpcoming_manyChanges_matchesFreshlyIndexedList() throws Exception {
+        Random random = new Random(34);
+        TaskList tasks = new TaskList();
+        tasks.getUpcoming(START, 1);
+
+        for (int i = 0; i < 500; i++) {
+            int action = random.nextInt(6);
+            if (action <= 1 || tasks.size() < 4) {
+                LocalDate date = START.plusDays(random.nextInt(30));
+                Task task = random.nextBoolean()
+                        ? new Deadline("deadline " + random.nextInt(5), date)
+                        : new Event("event " + random.nextInt(5), date, date.plusDays(1));
+                tasks = tasks.add(random.nextInt(5) == 0 ? new ToDo("todo") : task);
+            } else if (action == 2) {
+                tasks = tasks.remove(random.nextInt(tasks.size()));
+            } else if (action == 3) {
+                int index = random.nextInt(tasks.size());
+                tasks = tasks.mark(index, !tasks.get(index).isDone());
+            } else if (action == 4) {
+                try {
+                    tasks = tasks.markAll(randomRanges(random, tasks.size()), random.nextBoolean());
+                } catch (TaskStatusException e) {
+                    // Every task in the ranges already had that status
+                }
+            } else {
+                tasks = tasks.removeAll(randomRanges(random, tasks.size()));
+            }
+
+            List<Task> copy = new ArrayList<>();
+            for (int j = 0; j < tasks.size(); j++) {
+                copy.add(tasks.get(j));
+            }
+
+            LocalDate from = START.plusDays(random.nextInt(30));
+            assertEquals(new TaskList(copy).getUpcoming(from, 8).toString(), tasks.getUpcoming(from, 8).toString());
+        }
+    }
+
+    /**
+     * Returns a short range of indexes and a single index, possibly overlapping, within a list of the given size.
+     */
+    private static IndexRanges randomRanges(Random random, int size) {
+        int start = random.nextInt(size);
+        int end = Math.min(size - 1, start + random.nextInt(3));
+        int other = random.nextInt(size);
+        return new IndexRanges(Arrays.asList(new int[] {start, end}, new int[] {other, other}));
+    }
+}
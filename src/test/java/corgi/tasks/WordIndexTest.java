@@ -0,0 +1,58 @@
+package corgi.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WordIndexTest {
+
+    private static String word(int i) {
+        StringBuilder sb = new StringBuilder();
+        for (int n = i; sb.length() == 0 || n > 0; n /= 26) {
+            sb.append((char) ('a' + n % 26));
+        }
+        return "task" + sb;
+    }
+
+    @Test
+    public void remove_mostTasks_dropsUnusedWordsFromVocabulary() throws Exception {
+        List<Task> initial = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            initial.add(new ToDo(word(i)));
+        }
+        TaskList tasks = new TaskList(initial);
+        assertEquals(400, tasks.getWordIndex().getVocabulary().size());
+
+        for (int i = 0; i < 300; i++) {
+            tasks = tasks.remove(0);
+        }
+
+        int vocabularySize = tasks.getWordIndex().getVocabulary().size();
+        assertTrue(vocabularySize < 200, "Vocabulary still has " + vocabularySize + " words");
+
+        List<Integer> found = new ArrayList<>();
+        tasks.searchWords(word(350), 0, (position, distance) -> found.add(position));
+        assertEquals(List.of(50), found);
+        tasks.searchWords(word(10), 0, (position, distance) -> found.add(position));
+        assertEquals(List.of(50), found);
+    }
+
+    @Test
+    public void remove_fewTasks_keepsSharedVocabulary() throws Exception {
+        List<Task> initial = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            initial.add(new ToDo(word(i)));
+        }
+        TaskList tasks = new TaskList(initial);
+        BkTree vocabulary = tasks.getWordIndex().getVocabulary();
+
+        TaskList removed = tasks.remove(0).remove(0);
+
+        assertSame(vocabulary, removed.getWordIndex().getVocabulary());
+    }
+}
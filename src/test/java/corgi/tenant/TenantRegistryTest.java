@@ -0,0 +1,103 @@
+package corgi.tenant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TenantRegistryTest {
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    public void getResponse_moreUsersThanCapacity_evictsLeastRecentlyUsed() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 2, Long.MAX_VALUE);
+
+        registry.getResponse("alice", "todo /desc read");
+        registry.getResponse("bob", "todo /desc write");
+        registry.getResponse("alice", "list");
+        registry.getResponse("carol", "list");
+
+        // Bob was the least recently used user when Carol was loaded
+        assertEquals(2, registry.getResidentTenantCount());
+        assertEquals(1, registry.getEvictionCount());
+        assertEquals(1, registry.getResidentTaskCount());
+    }
+
+    @Test
+    public void getResponse_evictedUser_reloadsSavedTasks() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 1, Long.MAX_VALUE);
+
+        registry.getResponse("alice", "todo /desc read");
+        registry.getResponse("bob", "list");
+
+        assertTrue(registry.getResponse("alice", "list").contains("read"));
+        assertEquals(2, registry.getEvictionCount());
+    }
+
+    @Test
+    public void getResponse_tooManyResidentTasks_evictsOtherUsers() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 10, 2);
+
+        registry.getResponse("alice", "todo /desc read");
+        registry.getResponse("alice", "todo /desc write");
+        registry.getResponse("bob", "todo /desc run");
+
+        assertEquals(1, registry.getResidentTenantCount());
+        assertEquals(1, registry.getResidentTaskCount());
+    }
+
+    @Test
+    public void getHitRate_repeatedAccess_countsHitsAndMisses() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 2, Long.MAX_VALUE);
+
+        registry.getResponse("alice", "list");
+        registry.getResponse("alice", "list");
+        registry.getResponse("alice", "list");
+        registry.getResponse("bob", "list");
+
+        assertEquals(0.5, registry.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void getResponse_concurrentFirstAccess_loadsUserOnce() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 1, Long.MAX_VALUE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> responses = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            String input = "todo /desc task " + i;
+            responses.add(executor.submit(() -> registry.getResponse("alice", input)));
+            responses.add(executor.submit(() -> registry.getResponse("bob", "list")));
+        }
+        for (Future<String> response : responses) {
+            response.get();
+        }
+        executor.shutdown();
+
+        // Every command must have reached the same task list, even when Alice was evicted in between
+        String list = registry.getResponse("alice", "list");
+        for (int i = 0; i < 8; i++) {
+            assertTrue(list.contains("task " + i));
+        }
+    }
+
+    @Test
+    public void getResponse_invalidUserId_throwsInvalidTenantException() throws Exception {
+        TenantRegistry registry = new TenantRegistry(this.dataDirectory.toString(), 2, Long.MAX_VALUE);
+
+        assertThrows(InvalidTenantException.class, () ->
+                registry.getResponse("../alice", "list"));
+        assertThrows(InvalidTenantException.class, () ->
+                registry.getResponse("", "list"));
+    }
+}
@@ -0,0 +1,47 @@
+package corgi.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageTest {
+
+    @Test
+    public void split_shortText_returnsWholeText() {
+        String text = "Here's the list of tasks that better be done:\n\n1) [T][ ] read book\n";
+
+        List<Message> messages = Message.split(Message.Sender.CORGI, text, 100);
+
+        assertEquals(1, messages.size());
+        assertEquals(text, messages.get(0).getText());
+        assertEquals(false, messages.get(0).isContinuation());
+    }
+
+    @Test
+    public void split_longText_joinsBackToText() {
+        StringBuilder text = new StringBuilder("Here's the list of tasks that better be done:\n\n");
+        for (int i = 1; i <= 250; i++) {
+            text.append(i).append(") [T][ ] task ").append(i).append('\n');
+        }
+
+        List<Message> messages = Message.split(Message.Sender.CORGI, text.toString(), 100);
+
+        assertEquals(3, messages.size());
+        assertEquals(false, messages.get(0).isContinuation());
+        assertEquals(true, messages.get(1).isContinuation());
+        assertEquals(true, messages.get(2).isContinuation());
+        assertEquals(100, messages.get(0).getText().split("\n", -1).length);
+        assertEquals(text.toString(), messages.get(0).getText() + "\n" + messages.get(1).getText() + "\n"
+                + messages.get(2).getText());
+    }
+
+    @Test
+    public void split_exactLines_keepsTrailingNewline() {
+        List<Message> messages = Message.split(Message.Sender.CORGI, "a\nb\n", 2);
+
+        assertEquals(1, messages.size());
+        assertEquals("a\nb\n", messages.get(0).getText());
+    }
+}
@@ -0,0 +1,66 @@
+package corgi.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import corgi.parsers.CommandDefinition;
+import corgi.parsers.CommandRegistry;
+
+public class TextRendererTest {
+    private final TextRenderer renderer = new TextRenderer();
+
+    /**
+     * Joins lines the way the messages were built before they were templates.
+     */
+    private static String lines(String... lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void showError_knownAndUnknownExceptions_matchesLines() {
+        String known = lines("Woof?!", "", "Are you trying to confuse me with this nonsense? Try again hooman!");
+        String unknown = lines("Woof?!", "", "Oh wonderful, you've broken something. And guess what? I have \n"
+                + "absolutely no idea what happened either.\n\nError: OddException occurred!");
+
+        assertEquals(known, renderer.showError("InvalidCommandFormatException"));
+        assertEquals(unknown, renderer.showError("OddException"));
+        assertEquals(lines(known, "Error: \nInvalid date format!"),
+                renderer.showError("InvalidCommandFormatException", "Invalid date format!"));
+        assertEquals(lines(unknown, "Error: \nnull"), renderer.showError("OddException", null));
+    }
+
+    @Test
+    public void showTaskMessages_singularAndPlural_matchesLines() {
+        assertEquals(lines("Woof, whatever. I've added this todo:\n", "[T][ ] read",
+                "\nNow you have 1 task in the list."), renderer.showTaskAdded("todo", "[T][ ] read", 1));
+        assertEquals(lines("Finally got rid of that task. Took you long enough... uninterested woof ~", "",
+                "[T][ ] read", "", "Now you have 2 tasks in the list."),
+                renderer.showTaskDeleted("[T][ ] read", 2));
+        assertEquals(lines("Wow, 1 task at once? Who are you and what have you done with my hooman:", "", "1) a"),
+                renderer.showTasksDone("1) a", 1));
+        assertEquals(lines("Oh great, you've undone 3 things. Just like always:", "", "1) a"),
+                renderer.showTasksUndone("1) a", 3));
+        assertEquals(lines("Poof! 2 tasks gone. Took you long enough... uninterested woof ~", "", "1) a\n2) b", "",
+                "Now you have 1 task in the list."),
+                renderer.showTasksDeleted("1) a\n2) b", 2, 1));
+    }
+
+    @Test
+    public void showOtherMessages_matchesLines() {
+        CommandDefinition todo = CommandRegistry.getDefault().lookup("todo");
+        assertEquals(lines("Format: " + todo.getCommandFormat()), renderer.showCommandFormat(todo));
+        assertEquals(lines("Fine, here's what's going on on Sep 21 2023:", "", "1) a", "",
+                "Don't expect me to be excited about it."), renderer.showTasksOnDate("Sep 21 2023", "1) a"));
+        assertEquals(lines("Ugh, fine, I found tasks with that ridiculous keyword \"{}\":", "", "1) {}"),
+                renderer.showTasksWithKeyword("{}", "1) {}"));
+        assertEquals(lines("Here's the list of tasks that better be done:", "", "1) a"), renderer.showTaskList("1) a"));
+        assertEquals(lines("Argh, fine!", "I undid it: Add task", "You better think twice next time!"),
+                renderer.showUndoSucceed("Add task"));
+        assertEquals(lines("Woof! I'm Corgi!", "So, what's your wish this time, hooman?"), renderer.showIntro());
+    }
+}
@@ -1,21 +1,23 @@
 @ECHO OFF
 
-REM create bin directory if it doesn't exist
-if not exist ..\bin mkdir ..\bin
-
-REM delete output from previous run
+REM delete output and data from previous run
 if exist ACTUAL.TXT del ACTUAL.TXT
+if not exist data mkdir data
+type nul > data\tasks.txt
 
-REM compile the code into the bin folder
-javac  -cp ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\*.java
+REM build the jar
+pushd ..
+call gradlew.bat -q shadowJar
 IF ERRORLEVEL 1 (
+    popd
     echo ********** BUILD FAILURE **********
     exit /b 1
 )
+popd
 REM no error here, errorlevel == 0
 
-REM run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ..\bin Duke < input.txt > ACTUAL.TXT
+REM run the console version, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
+java -cp ..\build\libs\corgi.jar corgi.Cli data\tasks.txt < input.txt > ACTUAL.TXT
 
 REM compare the output to the expected output
 FC ACTUAL.TXT EXPECTED.TXT
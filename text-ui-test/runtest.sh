@@ -1,26 +1,23 @@
 #!/usr/bin/env bash
 
-# create bin directory if it doesn't exist
-if [ ! -d "../bin" ]
-then
-    mkdir ../bin
-fi
-
-# delete output from previous run
+# delete output and data from previous run
 if [ -e "./ACTUAL.TXT" ]
 then
     rm ACTUAL.TXT
 fi
 
-# compile the code into the bin folder, terminates if error occurred
-if ! javac -cp ../src/main/java -Xlint:none -d ../bin ../src/main/java/*.java ../src/main/java/tasks/*.java ../src/main/java/commands/*.java
+mkdir -p ./data
+: > ./data/tasks.txt
+
+# build the jar, terminates if error occurred
+if ! (cd .. && ./gradlew -q shadowJar)
 then
     echo "********** BUILD FAILURE **********"
     exit 1
 fi
 
-# run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ../bin Corgi < input.txt > ACTUAL.TXT
+# run the console version, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
+java -cp ../build/libs/corgi.jar corgi.Cli ./data/tasks.txt < input.txt > ACTUAL.TXT
 
 # convert to UNIX format
 cp EXPECTED.TXT EXPECTED-UNIX.TXT
@@ -35,4 +32,4 @@ then
 else
     echo "Test result: FAILED"
     exit 1
-fi
\ No newline at end of file
+fi